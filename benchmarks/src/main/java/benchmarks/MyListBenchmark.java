@@ -0,0 +1,164 @@
+package benchmarks;
+
+import interfaces.MyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Every MyList operation on a list of fixed size.
+ * Mutating benchmarks undo their own change (add then remove), so the size stays the same.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MyListBenchmark {
+
+    @Param({"MyArrayList", "MyLinkedList", "MyUnrolledLinkedList"})
+    public String implementation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private MyList<Integer> list;
+    private Integer[] values;
+    private int[] indices;       // Random indices, walked in a cycle
+    private int cursor;
+    private Integer missing;     // A value that is not in the list
+    private Integer[] batch;     // Elements inserted at once by the bulk benchmarks
+    private Integer[] copy;      // Target of copyInto
+    private long total;          // Sum built by forEachSum
+    private final Consumer<Integer> accumulate = value -> total += value;
+
+    @Setup
+    public void setUp() {
+        values = Structures.boxedValues(size);
+        list = Structures.newList(implementation);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        Random random = new Random(42);
+        indices = new int[1024];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+        missing = -1;
+        batch = Structures.boxedValues(64);
+        copy = new Integer[size];
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (indices.length - 1);
+        return indices[cursor];
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public void set() {
+        int index = nextIndex();
+        list.set(index, values[index]);
+    }
+
+    @Benchmark
+    public void getFirstAndLast(Blackhole blackhole) {
+        blackhole.consume(list.getFirst());
+        blackhole.consume(list.getLast());
+    }
+
+    @Benchmark
+    public void addFirstRemoveFirst() {
+        list.addFirst(values[0]);
+        list.removeFirst();
+    }
+
+    @Benchmark
+    public void addLastRemoveLast() {
+        list.addLast(values[0]);
+        list.removeLast();
+    }
+
+    @Benchmark
+    public void addRemoveAtIndex() {
+        int index = nextIndex();
+        list.add(index, values[index]);
+        list.remove(index);
+    }
+
+    @Benchmark
+    public int indexOfPresent() {
+        return list.indexOf(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public int lastIndexOfPresent() {
+        return list.lastIndexOf(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean existsMissing() {
+        return list.exists(missing);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachSum() {
+        total = 0;
+        list.forEach(accumulate);
+        return total;
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    @Benchmark
+    public void addAllRemoveRangeAtIndex() {
+        int index = nextIndex();
+        list.addAll(index, batch);
+        list.removeRange(index, index + batch.length);
+    }
+
+    @Benchmark
+    public void copyInto() {
+        list.copyInto(copy);
+    }
+}
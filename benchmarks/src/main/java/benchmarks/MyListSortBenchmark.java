@@ -0,0 +1,83 @@
+package benchmarks;
+
+import interfaces.MyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyList.sort on random and on nearly-sorted input.
+ * The list is refilled before every call, so each call sorts unsorted data.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MyListSortBenchmark {
+
+    @Param({"MyArrayList", "MyLinkedList", "MyUnrolledLinkedList"})
+    public String implementation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"random", "nearlySorted"})
+    public String order;
+
+    private MyList<Integer> list;
+    private Integer[] input;
+
+    @Setup(Level.Trial)
+    public void createInput() {
+        Integer[] values = Structures.boxedValues(size);
+        Random random = new Random(42);
+        if (order.equals("random")) {
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Integer temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        } else {
+            // Sorted, with 1% of the elements swapped with a random partner
+            for (int k = 0; k < size / 100; k++) {
+                int i = random.nextInt(size);
+                int j = random.nextInt(size);
+                Integer temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+        input = values;
+        list = Structures.newList(implementation);
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        list.clear();
+        for (Integer value : input) {
+            list.add(value);
+        }
+    }
+
+    @Benchmark
+    public MyList<Integer> sort() {
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+}
@@ -0,0 +1,85 @@
+package benchmarks;
+
+import interfaces.IMyMinHeap;
+import interfaces.MyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyMinHeap operations over each backing list, on a heap of fixed size.
+ * insertExtract inserts a random key and removes the minimum, so the size stays the same.
+ * buildFromList and insertEach compare O(n) bulk construction with n single inserts.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MyMinHeapBenchmark {
+
+    @Param({"MyArrayList", "MyLinkedList"})
+    public String backingList;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private IMyMinHeap<Integer> heap;
+    private Integer[] keys;      // Random keys, walked in a cycle
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new Integer[1024];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(size);
+        }
+        heap = Structures.newMinHeap(Structures.<Integer>newList(backingList));
+        for (int i = 0; i < size; i++) {
+            heap.insert(keys[i & (keys.length - 1)]);
+        }
+    }
+
+    @Benchmark
+    public Integer insertExtract() {
+        cursor = (cursor + 1) & (keys.length - 1);
+        heap.insert(keys[cursor]);
+        return heap.extractMin();
+    }
+
+    @Benchmark
+    public Integer getMin() {
+        return heap.getMin();
+    }
+
+    @Benchmark
+    public Integer buildFromList() {
+        MyList<Integer> list = Structures.newList(backingList);
+        for (int i = 0; i < size; i++) {
+            list.addLast(keys[i & (keys.length - 1)]);
+        }
+        return Structures.newMinHeap(list).getMin();
+    }
+
+    @Benchmark
+    public Integer insertEach() {
+        IMyMinHeap<Integer> built = Structures.newMinHeap(Structures.<Integer>newList(backingList));
+        for (int i = 0; i < size; i++) {
+            built.insert(keys[i & (keys.length - 1)]);
+        }
+        return built.getMin();
+    }
+}
@@ -0,0 +1,57 @@
+package benchmarks;
+
+import interfaces.IMyQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyQueue operations over each backing list, on a queue of fixed size.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MyQueueBenchmark {
+
+    @Param({"MyArrayList", "MyLinkedList"})
+    public String backingList;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private IMyQueue<Integer> queue;
+    private Integer value;
+
+    @Setup
+    public void setUp() {
+        queue = Structures.newQueue(Structures.newList(backingList));
+        for (Integer item : Structures.boxedValues(size)) {
+            queue.enqueue(item);
+        }
+        value = size;
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        queue.enqueue(value);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer peek() {
+        return queue.peek();
+    }
+}
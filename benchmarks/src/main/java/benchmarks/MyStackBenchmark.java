@@ -0,0 +1,57 @@
+package benchmarks;
+
+import interfaces.IMyStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyStack operations over each backing list, on a stack of fixed size.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MyStackBenchmark {
+
+    @Param({"MyArrayList", "MyLinkedList"})
+    public String backingList;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private IMyStack<Integer> stack;
+    private Integer value;
+
+    @Setup
+    public void setUp() {
+        stack = Structures.newStack(Structures.newList(backingList));
+        for (Integer item : Structures.boxedValues(size)) {
+            stack.push(item);
+        }
+        value = size;
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        stack.push(value);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public Integer peek() {
+        return stack.peek();
+    }
+}
@@ -0,0 +1,93 @@
+package benchmarks;
+
+import interfaces.IMyMinHeap;
+import interfaces.IMyQueue;
+import interfaces.IMyStack;
+import interfaces.MyList;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Creates the data structures under test by class name.
+ * The implementations live in the default package, which named packages cannot import,
+ * so they are created through reflection once per trial and used through the interfaces.
+ * The measured code never goes through reflection.
+ */
+final class Structures {
+
+    private Structures() {
+    }
+
+    /**
+     * Creates an empty list, e.g. "MyArrayList" or "MyLinkedList".
+     *
+     * @param implementation the simple class name of the list
+     * @return a new empty list
+     */
+    static <T> MyList<T> newList(String implementation) {
+        return (MyList<T>) create(implementation, new Class<?>[0]);
+    }
+
+    /**
+     * Creates a MyStack backed by the given list.
+     *
+     * @param list the backing list
+     * @return a new stack
+     */
+    static <T> IMyStack<T> newStack(MyList<T> list) {
+        return (IMyStack<T>) create("MyStack", new Class<?>[]{MyList.class}, list);
+    }
+
+    /**
+     * Creates a MyQueue backed by the given list.
+     *
+     * @param list the backing list
+     * @return a new queue
+     */
+    static <T> IMyQueue<T> newQueue(MyList<T> list) {
+        return (IMyQueue<T>) create("MyQueue", new Class<?>[]{MyList.class}, list);
+    }
+
+    /**
+     * Creates a MyMinHeap backed by the given list.
+     *
+     * @param list the backing list
+     * @return a new heap
+     */
+    static <T extends Comparable<T>> IMyMinHeap<T> newMinHeap(MyList<T> list) {
+        return (IMyMinHeap<T>) create("MyMinHeap", new Class<?>[]{MyList.class}, list);
+    }
+
+    /**
+     * Creates an empty MyDaryMinHeap with the given number of children per node.
+     *
+     * @param arity the number of children per node
+     * @return a new heap
+     */
+    static <T extends Comparable<T>> IMyMinHeap<T> newDaryMinHeap(int arity) {
+        return (IMyMinHeap<T>) create("MyDaryMinHeap", new Class<?>[]{int.class}, arity);
+    }
+
+    /**
+     * Returns the values 0 .. count - 1, boxed once so benchmarks do not measure boxing.
+     *
+     * @param count the number of values
+     * @return the boxed values
+     */
+    static Integer[] boxedValues(int count) {
+        Integer[] values = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    private static Object create(String className, Class<?>[] parameterTypes, Object... arguments) {
+        try {
+            return Class.forName(className).getConstructor(parameterTypes).newInstance(arguments);
+        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException
+                 | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Cannot create " + className, e);
+        }
+    }
+}
@@ -1,25 +1,304 @@
 /**
  * Custom implementation of a dynamic array list.
  * Supports typical list operations such as add, remove, get, and sort.
+ * Elements are stored in a circular buffer starting at a head offset,
+ * so adding and removing at both ends is O(1) amortized.
+ * An optional hash index (enableIndex) makes exists, indexOf and lastIndexOf O(1) expected
+ * instead of a linear scan, at the cost of extra memory and slower updates.
+ * The initial capacity and the growth factor can be chosen, and the array can be trimmed
+ * by hand (trimToSize) or shrink by itself when it gets sparse (enableAutoShrink).
  *
  * @param <T> the type of elements stored in the list
  */
 
 import interfaces.MyList;
 
+import java.util.Arrays;      // Used to clear ranges of the array
 import java.util.Comparator;  // Used to compare elements for sorting
+import java.util.ConcurrentModificationException;  // Thrown when the list changes during forEach
 import java.util.Iterator;    // Used to provide iteration over list elements
+import java.util.Objects;     // Used to check arguments for null
+import java.util.Spliterator; // Used to split the list for parallel streams
+import java.util.concurrent.ForkJoinPool;  // Used to pick the default parallelism for parallelSort
+import java.util.function.Consumer;        // Used by the spliterator and forEach to pass elements on
+import java.util.function.ObjIntConsumer;  // Used by forEachIndexed to pass elements with their index
+import java.util.function.Predicate;       // Used to select elements in removeIf
 
 public class MyArrayList<T> implements MyList<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final double DEFAULT_GROWTH_FACTOR = 2.0;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;  // Some VMs reserve header words in arrays
+
     private int size;              // Current number of elements in the list
     private Object[] elements;     // Array to store elements
+    private int head;              // Position of the first element in the array
+    private MyPositionIndex index; // Element to positions, null unless indexed mode is on
+    private int indexBase;         // Index position of the element at list index 0
+    private final int initialCapacity;    // Capacity the array never shrinks below by itself
+    private final double growthFactor;    // Capacity is multiplied by this when the array is full
+    private double shrinkThreshold;       // Occupancy below which the array shrinks, 0 if auto-shrink is off
+    private int modCount;                 // Number of structural changes, checked by forEach
 
     /**
      * Constructs a new MyArrayList with an initial capacity of 10.
      */
     public MyArrayList(){
-        elements = new Object[10];
+        this(DEFAULT_CAPACITY, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * Constructs a new MyArrayList with the given initial capacity, doubling when full.
+     *
+     * @param initialCapacity the number of elements the list can hold before it grows
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyArrayList(int initialCapacity){
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * Constructs a new MyArrayList with the given initial capacity and growth factor.
+     * A smaller growth factor wastes less memory, a larger one copies less often.
+     *
+     * @param initialCapacity the number of elements the list can hold before it grows
+     * @param growthFactor    the factor the capacity is multiplied by when the array is full
+     * @throws IllegalArgumentException if initialCapacity is negative or growthFactor is not greater than 1
+     */
+    public MyArrayList(int initialCapacity, double growthFactor){
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative: " + initialCapacity);
+        }
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1: " + growthFactor);
+        }
+        this.elements = new Object[initialCapacity];
+        this.initialCapacity = initialCapacity;
+        this.growthFactor = growthFactor;
+        size = 0;
+        head = 0;
+    }
+
+    /**
+     * Returns the number of slots in the backing array, used or not.
+     *
+     * @return the capacity of the list
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the share of the backing array that holds elements.
+     *
+     * @return size divided by capacity, or 1 if the capacity is 0
+     */
+    public double occupancy() {
+        return elements.length == 0 ? 1.0 : (double) size / elements.length;
+    }
+
+    /**
+     * Makes sure the list can hold minCapacity elements without growing again.
+     *
+     * @param minCapacity the number of elements the list must be able to hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        grow(minCapacity);
+    }
+
+    /**
+     * Shrinks the backing array to exactly the number of elements.
+     */
+    public void trimToSize() {
+        if (elements.length != size) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with the given array, which the list takes over without copying.
+     * Used by MySnapshotList to start a batch from one copy of the current snapshot.
+     *
+     * @param array the new backing array, holding the elements at [0, size); must not be used by the caller afterwards
+     * @param size  the number of elements in the array
+     */
+    void attachArray(Object[] array, int size) {
+        elements = array;
+        this.size = size;
+        head = 0;
+        modCount++;
+        if (index != null) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Hands the backing array over to the caller and leaves this list empty.
+     * The elements are rotated in place to the start of the array, so nothing is allocated or copied out.
+     * Used by MySnapshotList to publish a batch without a second copy.
+     *
+     * @return the former backing array, holding the elements at [0, size) and nulls after them
+     */
+    Object[] detachArray() {
+        if (head != 0) {
+            // Rotating left by head: reverse both parts, then the whole array
+            reverse(0, head);
+            reverse(head, elements.length);
+            reverse(0, elements.length);
+        }
+        Object[] detached = elements;
+        elements = new Object[0];
         size = 0;
+        head = 0;
+        modCount++;
+        if (index != null) {
+            index.clear();
+            indexBase = 0;
+        }
+        return detached;
+    }
+
+    /**
+     * Turns on automatic shrinking: when a removal leaves less than threshold of the array used,
+     * the array is copied into one that is half full, but never smaller than the initial capacity.
+     * Because a shrunk array is half full, the list has to double before it grows again
+     * and lose half its elements again before the next shrink, so it does not thrash.
+     *
+     * @param threshold the occupancy that triggers a shrink, greater than 0 and less than 0.5
+     * @throws IllegalArgumentException if threshold is outside that range
+     */
+    public void enableAutoShrink(double threshold) {
+        if (!(threshold > 0 && threshold < 0.5)) {
+            throw new IllegalArgumentException("Shrink threshold must be between 0 and 0.5: " + threshold);
+        }
+        shrinkThreshold = threshold;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Turns off automatic shrinking.
+     */
+    public void disableAutoShrink() {
+        shrinkThreshold = 0;
+    }
+
+    /**
+     * Maps a list index to its position in the circular array.
+     *
+     * @param index the list index
+     * @return the position in the array
+     */
+    private int slot(int index) {
+        int position = head + index;
+        return position >= elements.length ? position - elements.length : position;
+    }
+
+    /**
+     * Maps any list index, also a negative one or one past the capacity, to its position in the circular array.
+     *
+     * @param index the list index
+     * @return the position in the array
+     */
+    private int physical(int index) {
+        return Math.floorMod(head + index, elements.length);
+    }
+
+    /**
+     * Moves length elements from list index from to list index to with System.arraycopy.
+     * The ranges may overlap and may wrap around the end of the array;
+     * the copy is split into chunks that do not cross the end.
+     *
+     * @param from   the first list index to read
+     * @param to     the first list index to write
+     * @param length the number of elements to move
+     */
+    private void moveRange(int from, int to, int length) {
+        int capacity = elements.length;
+        if (to < from) {
+            int done = 0;
+            while (done < length) {
+                int source = physical(from + done);
+                int target = physical(to + done);
+                int chunk = Math.min(length - done, Math.min(capacity - source, capacity - target));
+                System.arraycopy(elements, source, elements, target, chunk);
+                done += chunk;
+            }
+        } else if (to > from) {
+            // Copy from the end backwards, so no element is overwritten before it is read
+            int remaining = length;
+            while (remaining > 0) {
+                int source = physical(from + remaining - 1);
+                int target = physical(to + remaining - 1);
+                int chunk = Math.min(remaining, Math.min(source + 1, target + 1));
+                System.arraycopy(elements, source - chunk + 1, elements, target - chunk + 1, chunk);
+                remaining -= chunk;
+            }
+        }
+    }
+
+    /**
+     * Sets length slots starting at list index from to null, so removed elements can be garbage collected.
+     *
+     * @param from   the first list index to clear
+     * @param length the number of slots to clear
+     */
+    private void clearRange(int from, int length) {
+        while (length > 0) {
+            int start = physical(from);
+            int chunk = Math.min(length, elements.length - start);
+            Arrays.fill(elements, start, start + chunk, null);
+            from += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Copies length elements of source into the list positions starting at list index index.
+     *
+     * @param index      the first list index to write
+     * @param source     the array to read
+     * @param sourcePos  the first position in source
+     * @param length     the number of elements to copy
+     */
+    private void writeAt(int index, Object[] source, int sourcePos, int length) {
+        int start = physical(index);
+        int firstPart = Math.min(length, elements.length - start);
+        System.arraycopy(source, sourcePos, elements, start, firstPart);
+        System.arraycopy(source, sourcePos + firstPart, elements, 0, length - firstPart);
+    }
+
+    /**
+     * Returns true if the elements wrap around the end of the array.
+     */
+    private boolean isWrapped() {
+        return head + size > elements.length;
+    }
+
+    /**
+     * Rotates the array so that the first element is at position 0.
+     * Uses three in-place reversals, so no extra array is needed.
+     */
+    private void moveHeadToStart() {
+        if (head == 0) {
+            return;
+        }
+        reverse(0, head);
+        reverse(head, elements.length);
+        reverse(0, elements.length);
+        head = 0;
+    }
+
+    /**
+     * Reverses the positions [from, to) of the array.
+     *
+     * @param from the first position (inclusive)
+     * @param to   the last position (exclusive)
+     */
+    private void reverse(int from, int to) {
+        for (to--; from < to; from++, to--) {
+            Object temp = elements[from];
+            elements[from] = elements[to];
+            elements[to] = temp;
+        }
     }
 
     /**
@@ -32,6 +311,82 @@ public class MyArrayList<T> implements MyList<T> {
         }
     }
 
+    /**
+     * Turns on indexed mode: builds a hash index from every element to its positions in O(n).
+     * While it is on, exists, indexOf and lastIndexOf use the index and every change to the list updates it.
+     * Middle inserts and removals also re-key the elements they shift, so they stay O(n) but get slower.
+     */
+    public void enableIndex() {
+        rebuildIndex();
+    }
+
+    /**
+     * Turns off indexed mode and releases the index.
+     */
+    public void disableIndex() {
+        index = null;
+    }
+
+    /**
+     * Returns true if indexed mode is on.
+     *
+     * @return true if the list keeps a hash index
+     */
+    public boolean isIndexed() {
+        return index != null;
+    }
+
+    /**
+     * Estimates the memory used by the hash index, in bytes.
+     *
+     * @return the estimated index size, or 0 if indexed mode is off
+     */
+    public long indexFootprint() {
+        return index == null ? 0 : index.footprint();
+    }
+
+    /**
+     * Builds the hash index from scratch, with list index 0 at index position 0.
+     */
+    private void rebuildIndex() {
+        MyPositionIndex rebuilt = new MyPositionIndex(size);
+        for (int i = 0; i < size; i++) {
+            rebuilt.add(elements[slot(i)], i);
+        }
+        index = rebuilt;
+        indexBase = 0;
+    }
+
+    /**
+     * Rebuilds the index when addFirst or removeFirst moved indexBase too far from zero,
+     * so index positions can never overflow.
+     */
+    private void rebaseIndexIfNeeded() {
+        if (index != null && (indexBase < -(1 << 30) || indexBase > (1 << 30))) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Moves the index positions of the elements at list indices [from, to) by delta.
+     * Walks in the direction of the move, so a position is never taken twice at once.
+     *
+     * @param from  the first list index (inclusive)
+     * @param to    the last list index (exclusive)
+     * @param delta +1 or -1
+     */
+    private void shiftIndexPositions(int from, int to, int delta) {
+        if (delta > 0) {
+            for (int i = to - 1; i >= from; i--) {
+                index.move(elements[slot(i)], indexBase + i, indexBase + i + 1);
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                index.move(elements[slot(i)], indexBase + i, indexBase + i - 1);
+            }
+        }
+    }
+
     /**
      * Throws an exception if the list is empty.
      */
@@ -43,19 +398,50 @@ public class MyArrayList<T> implements MyList<T> {
 
     /**
      * Sorts the list using the given comparator.
-     * Uses bubble sort algorithm.
+     * Uses a stable, adaptive merge sort (see MyTimSort) on the backing array,
+     * so nearly-sorted lists are sorted in close to linear time.
      *
      * @param cmp the comparator used to compare elements
      */
     public void sort(Comparator<T> cmp) {
-        for (int i = 0; i < size - 1; i++) {
-            for (int j = 0; j < size - i - 1; j++) {
-                if (cmp.compare((T) elements[j], (T) elements[j+1]) > 0) {
-                    T temp = (T) elements[j];
-                    elements[j] = elements[j+1];
-                    elements[j+1] = temp;
-                }
-            }
+        if (isWrapped()) {
+            moveHeadToStart();
+        }
+        MyTimSort.sort(elements, head, head + size, cmp);
+        modCount++;
+        if (index != null) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Sorts the list in parallel on the common ForkJoinPool.
+     * Gives the same stable order as sort(), small lists are sorted sequentially.
+     *
+     * @param cmp the comparator used to compare elements
+     */
+    public void parallelSort(Comparator<T> cmp) {
+        parallelSort(cmp, ForkJoinPool.getCommonPoolParallelism(), MyParallelSort.DEFAULT_MIN_GRAIN);
+    }
+
+    /**
+     * Sorts the list in parallel with the given settings.
+     * The list is split into chunks of at most minGrain elements,
+     * chunks are sorted in parallel and then merged in parallel.
+     *
+     * @param cmp         the comparator used to compare elements
+     * @param parallelism the number of worker threads to use
+     * @param minGrain    the largest chunk that is sorted or merged by one thread
+     * @throws IllegalArgumentException if parallelism or minGrain is less than 1
+     */
+    public void parallelSort(Comparator<T> cmp, int parallelism, int minGrain) {
+        if (isWrapped()) {
+            moveHeadToStart();
+        }
+        MyParallelSort.sort(elements, head, head + size, cmp, parallelism, minGrain);
+        modCount++;
+        if (index != null) {
+            rebuildIndex();
         }
     }
 
@@ -66,9 +452,7 @@ public class MyArrayList<T> implements MyList<T> {
      */
     public Object[] toArray(){
         Object[] result = new Object[size];
-        for(int i = 0; i < size; i++){
-            result[i] = elements[i];
-        }
+        copyTo(result);
         return result;
     }
 
@@ -79,8 +463,12 @@ public class MyArrayList<T> implements MyList<T> {
      * @return the index of the object, or -1 if not found
      */
     public int indexOf(Object object){
+        if (index != null) {
+            int position = index.first(object);
+            return position == MyPositionIndex.NONE ? -1 : position - indexBase;
+        }
         for(int i = 0; i < size; i++){
-            if(elements[i].equals(object)){
+            if(elements[slot(i)].equals(object)){
                 return i;
             }
         }
@@ -94,8 +482,12 @@ public class MyArrayList<T> implements MyList<T> {
      * @return the index of the object, or -1 if not found
      */
     public int lastIndexOf(Object object){
+        if (index != null) {
+            int position = index.last(object);
+            return position == MyPositionIndex.NONE ? -1 : position - indexBase;
+        }
         for(int i = size - 1; i >= 0; i--){
-            if(elements[i].equals(object)){
+            if(elements[slot(i)].equals(object)){
                 return i;
             }
         }
@@ -109,8 +501,11 @@ public class MyArrayList<T> implements MyList<T> {
      * @return true if found, false otherwise
      */
     public boolean exists(Object object){
+        if (index != null) {
+            return index.first(object) != MyPositionIndex.NONE;
+        }
         for(int i = 0; i < size; i++){
-            if(elements[i].equals(object)){
+            if(elements[slot(i)].equals(object)){
                 return true;
             }
         }
@@ -125,7 +520,11 @@ public class MyArrayList<T> implements MyList<T> {
      */
     public void set(int index, T element){
         checkIndex(index);
-        elements[index] = element;
+        if (this.index != null) {
+            this.index.remove(elements[slot(index)], indexBase + index);
+            this.index.add(element, indexBase + index);
+        }
+        elements[slot(index)] = element;
     }
 
     /**
@@ -134,12 +533,12 @@ public class MyArrayList<T> implements MyList<T> {
      * @param element the element to add
      */
     public void add(T element){
-        ensureCapacity();
-        elements[size++] = element;
+        addLast(element);
     }
 
     /**
      * Inserts an element at the specified index.
+     * Shifts whichever side of the index holds fewer elements.
      *
      * @param index   the position to insert at
      * @param element the element to insert
@@ -147,11 +546,27 @@ public class MyArrayList<T> implements MyList<T> {
     public void add(int index, T element){
         checkIndex(index);
         ensureCapacity();
-        for (int i = size; i > index; i--) {
-            elements[i] = elements[i - 1];
+        if (index < size / 2) {
+            if (this.index != null) {
+                // Elements before index keep their list index, so their positions follow indexBase down
+                shiftIndexPositions(0, index, -1);
+                indexBase--;
+            }
+            moveRange(0, -1, index);
+            head = head == 0 ? elements.length - 1 : head - 1;
+        } else {
+            if (this.index != null) {
+                shiftIndexPositions(index, size, 1);
+            }
+            moveRange(index, index + 1, size - index);
+        }
+        elements[slot(index)] = element;
+        if (this.index != null) {
+            this.index.add(element, indexBase + index);
         }
-        elements[index] = element;
         size++;
+        modCount++;
+        rebaseIndexIfNeeded();
     }
 
     /**
@@ -161,11 +576,14 @@ public class MyArrayList<T> implements MyList<T> {
      */
     public void addFirst(T element){
         ensureCapacity();
-        for(int i = size; i > 0; i--){
-            elements[i] = elements[i - 1];
-        }
-        elements[0] = element;
+        head = head == 0 ? elements.length - 1 : head - 1;
+        elements[head] = element;
         size++;
+        modCount++;
+        if (index != null) {
+            index.add(element, --indexBase);
+            rebaseIndexIfNeeded();
+        }
     }
 
     /**
@@ -175,18 +593,209 @@ public class MyArrayList<T> implements MyList<T> {
      */
     public void addLast(T element){
         ensureCapacity();
-        elements[size++] = element;
+        elements[slot(size)] = element;
+        if (index != null) {
+            index.add(element, indexBase + size);
+        }
+        size++;
+        modCount++;
     }
 
     /**
-     * Doubles the capacity of the internal array.
+     * Adds all elements of another list to the end of this list.
+     * Grows the array at most once; elements of another MyArrayList are copied with System.arraycopy.
+     *
+     * @param other the list whose elements to add, may be this list
+     */
+    public void addAll(MyList<T> other) {
+        int count = other.size();
+        if (count == 0) {
+            return;
+        }
+        grow(size + count);
+        int oldSize = size;
+        if (other instanceof MyArrayList) {
+            // Only free slots are written, so reading from this list itself is safe
+            MyArrayList<T> source = (MyArrayList<T>) other;
+            int firstPart = Math.min(count, source.elements.length - source.head);
+            writeAt(size, source.elements, source.head, firstPart);
+            writeAt(size + firstPart, source.elements, 0, count - firstPart);
+        } else {
+            int i = size;
+            for (T item : other) {
+                elements[slot(i++)] = item;
+            }
+        }
+        size += count;
+        modCount++;
+        if (index != null) {
+            for (int i = oldSize; i < size; i++) {
+                index.add(elements[slot(i)], indexBase + i);
+            }
+        }
+    }
+
+    /**
+     * Inserts all elements of an array at the specified index.
+     * Grows the array at most once, then moves whichever side of the index is shorter
+     * with one System.arraycopy (two if it wraps around the end of the array).
+     *
+     * @param index the position to insert at, from 0 to size
+     * @param items the elements to insert
+     */
+    public void addAll(int index, T[] items) {
+        checkPositionIndex(index);
+        int count = items.length;
+        if (count == 0) {
+            return;
+        }
+        grow(size + count);
+        if (index < size - index) {
+            moveRange(0, -count, index);
+            head = physical(-count);
+        } else {
+            moveRange(index, index + count, size - index);
+        }
+        writeAt(index, items, 0, count);
+        size += count;
+        modCount++;
+        if (this.index != null) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Removes the elements at indices [from, to).
+     * Moves whichever side of the range is shorter to close the gap.
+     *
+     * @param from the first index to remove (inclusive)
+     * @param to   the last index to remove (exclusive)
+     * @throws IndexOutOfBoundsException if the range is not inside the list
+     */
+    public void removeRange(int from, int to) {
+        checkRange(from, to);
+        int count = to - from;
+        if (count == 0) {
+            return;
+        }
+        if (from < size - to) {
+            moveRange(0, count, from);
+            clearRange(0, count);
+            head = physical(count);
+        } else {
+            moveRange(to, from, size - to);
+            clearRange(size - count, count);
+        }
+        size -= count;
+        modCount++;
+        if (index != null) {
+            rebuildIndex();
+        }
+        shrinkIfSparse();
+    }
+
+    /**
+     * Removes all elements that match the filter in a single pass.
+     * Kept elements are moved down over the removed ones, so each element moves at most once.
+     * If the filter throws, the elements it has not reached yet are kept.
+     *
+     * @param filter the condition for removing an element
+     * @return true if any element was removed
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        int oldSize = size;
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < size; i++) {
+                T element = (T) elements[slot(i)];
+                if (!filter.test(element)) {
+                    if (kept != i) {
+                        elements[slot(kept)] = element;
+                    }
+                    kept++;
+                }
+            }
+        } finally {
+            moveRange(i, kept, size - i);
+            kept += size - i;
+            clearRange(kept, size - kept);
+            if (kept != size) {
+                modCount++;
+            }
+            size = kept;
+            if (size != oldSize && index != null) {
+                rebuildIndex();
+            }
+            shrinkIfSparse();
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Copies the elements in list order to the start of the given array.
+     *
+     * @param target the array to copy into
+     * @throws IndexOutOfBoundsException if the array is shorter than the list
+     */
+    public void copyInto(T[] target) {
+        if (target.length < size) {
+            throw new IndexOutOfBoundsException("Array length: " + target.length + " is less than size: " + size);
+        }
+        copyTo(target);
+    }
+
+    /**
+     * Makes sure the array can hold minCapacity elements, growing it at most once.
+     *
+     * @param minCapacity the number of elements the array must be able to hold
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity > elements.length) {
+            long grown = Math.max((long) (elements.length * growthFactor), elements.length + 1L);
+            resize((int) Math.min(MAX_CAPACITY, Math.max(grown, minCapacity)));
+        }
+    }
+
+    /**
+     * Grows the capacity of the internal array by the growth factor.
+     * Elements are moved to the start of the new array.
      */
     private void increaseCapacity(){
-        Object[] temp = new Object[size * 2];
-        for(int i = 0; i < size; i++){
-            temp[i] = elements[i];
+        grow(size + 1);
+    }
+
+    /**
+     * Shrinks the array to half full if automatic shrinking is on and occupancy fell below the threshold.
+     */
+    private void shrinkIfSparse() {
+        if (shrinkThreshold > 0 && elements.length > initialCapacity && size < elements.length * shrinkThreshold) {
+            resize(Math.max(initialCapacity, size * 2));
         }
+    }
+
+    /**
+     * Moves the elements into a new array of the given capacity, starting at position 0.
+     *
+     * @param capacity the new capacity, at least size
+     */
+    private void resize(int capacity) {
+        Object[] temp = new Object[capacity];
+        copyTo(temp);
         elements = temp;
+        head = 0;
+        modCount++;
+    }
+
+    /**
+     * Copies the elements in list order to the start of the given array.
+     *
+     * @param target the array to copy into, at least size long
+     */
+    private void copyTo(Object[] target) {
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, target, 0, firstPart);
+        System.arraycopy(elements, 0, target, firstPart, size - firstPart);
     }
 
     /**
@@ -197,7 +806,7 @@ public class MyArrayList<T> implements MyList<T> {
      */
     public T get(int index){
         checkIndex(index);
-        return (T) elements[index];
+        return (T) elements[slot(index)];
     }
 
     /**
@@ -207,7 +816,7 @@ public class MyArrayList<T> implements MyList<T> {
      */
     public T getFirst(){
         checkEmpty();
-        return (T) elements[0];
+        return (T) elements[head];
     }
 
     /**
@@ -217,7 +826,7 @@ public class MyArrayList<T> implements MyList<T> {
      */
     public T getLast(){
         checkEmpty();
-        return (T) elements[size - 1];
+        return (T) elements[slot(size - 1)];
     }
 
     /**
@@ -225,7 +834,13 @@ public class MyArrayList<T> implements MyList<T> {
      */
     public void removeLast(){
         checkEmpty();
+        if (index != null) {
+            index.remove(elements[slot(size - 1)], indexBase + size - 1);
+        }
+        elements[slot(size - 1)] = null;
         size--;
+        modCount++;
+        shrinkIfSparse();
     }
 
     /**
@@ -233,23 +848,47 @@ public class MyArrayList<T> implements MyList<T> {
      */
     public void removeFirst(){
         checkEmpty();
-        for(int i = 0; i < size - 1; i++){
-            elements[i] = elements[i + 1];
+        if (index != null) {
+            index.remove(elements[head], indexBase++);
         }
+        elements[head] = null;
+        head = head == elements.length - 1 ? 0 : head + 1;
         size--;
+        modCount++;
+        rebaseIndexIfNeeded();
+        shrinkIfSparse();
     }
 
     /**
      * Removes the element at the specified index.
+     * Shifts whichever side of the index holds fewer elements.
      *
      * @param index the index to remove
      */
     public void remove(int index){
         checkIndex(index);
-        for(int i = index; i < size - 1; i++){
-            elements[i] = elements[i + 1];
+        if (this.index != null) {
+            this.index.remove(elements[slot(index)], indexBase + index);
+            if (index < size / 2) {
+                // Elements before index keep their list index, so their positions follow indexBase up
+                shiftIndexPositions(0, index, 1);
+                indexBase++;
+            } else {
+                shiftIndexPositions(index + 1, size, -1);
+            }
+        }
+        if (index < size / 2) {
+            moveRange(0, 1, index);
+            elements[head] = null;
+            head = head == elements.length - 1 ? 0 : head + 1;
+        } else {
+            moveRange(index + 1, index, size - index - 1);
+            elements[slot(size - 1)] = null;
         }
         size--;
+        modCount++;
+        rebaseIndexIfNeeded();
+        shrinkIfSparse();
     }
 
     /**
@@ -264,14 +903,46 @@ public class MyArrayList<T> implements MyList<T> {
         }
     }
 
+    /**
+     * Checks if [from, to) is a valid range of indices.
+     *
+     * @param from the first index (inclusive)
+     * @param to   the last index (exclusive)
+     * @throws IndexOutOfBoundsException if the range is not inside the list
+     */
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + ") out of bounds. Size: " + size);
+        }
+    }
+
+    /**
+     * Checks if the index is a valid insert position, from 0 to size.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + " out of bounds. Size: " + size);
+        }
+    }
+
     /**
      * Removes all elements from the list.
      */
     public void clear(){
         for(int i = 0; i < size; i++){
-            elements[i] = null;
+            elements[slot(i)] = null;
         }
         size = 0;
+        head = 0;
+        modCount++;
+        if (index != null) {
+            index.clear();
+            indexBase = 0;
+        }
+        shrinkIfSparse();
     }
 
     /**
@@ -293,6 +964,82 @@ public class MyArrayList<T> implements MyList<T> {
         return new MyIterator();
     }
 
+    /**
+     * Performs the action for each element, in order.
+     * Reads the backing array directly, without an iterator or per-element bounds checks.
+     *
+     * @param action the action to perform
+     * @throws ConcurrentModificationException if the list is structurally changed during the loop
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        forEachRange(0, size, action);
+    }
+
+    /**
+     * Performs the action for each element at indices [from, to), in order.
+     * The range is checked once, then the backing array is read directly.
+     *
+     * @param from   the first index (inclusive)
+     * @param to     the last index (exclusive)
+     * @param action the action to perform
+     * @throws IndexOutOfBoundsException       if the range is not inside the list
+     * @throws ConcurrentModificationException if the list is structurally changed during the loop
+     */
+    @Override
+    public void forEachRange(int from, int to, Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        checkRange(from, to);
+        int expectedModCount = modCount;
+        Object[] elements = this.elements;
+        int position = from == to ? 0 : slot(from);
+        for (int i = from; i < to && modCount == expectedModCount; i++) {
+            action.accept((T) elements[position]);
+            if (++position == elements.length) {
+                position = 0;
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the action for each element together with its index, in order.
+     * The index is passed as a plain int, so nothing is boxed.
+     *
+     * @param action the action to perform, receives the element and its index
+     * @throws ConcurrentModificationException if the list is structurally changed during the loop
+     */
+    @Override
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        Object[] elements = this.elements;
+        int position = head;
+        int size = this.size;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept((T) elements[position], i);
+            if (++position == elements.length) {
+                position = 0;
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a spliterator that splits the index range in halves.
+     * It reports SIZED and SUBSIZED, so parallel streams can divide the work evenly.
+     *
+     * @return a spliterator over the elements in the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator();
+    }
+
     /**
      * Internal class to implement the Iterator interface.
      */
@@ -321,4 +1068,86 @@ public class MyArrayList<T> implements MyList<T> {
             return nextItem;
         }
     }
+
+    /**
+     * Spliterator over a range of list indices.
+     * Binds to the array, head and size on first use, so a spliterator created
+     * before the list is filled still sees all elements.
+     */
+    private final class ArraySpliterator implements Spliterator<T> {
+        private Object[] array;   // Backing array at binding time
+        private int start;        // Head at binding time
+        private int index;        // Next list index to return
+        private int fence;        // One past the last list index, -1 until bound
+
+        ArraySpliterator() {
+            this.fence = -1;
+        }
+
+        ArraySpliterator(Object[] array, int start, int index, int fence) {
+            this.array = array;
+            this.start = start;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                array = elements;
+                start = head;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArraySpliterator(array, start, lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            int position = start + index++;
+            action.accept((T) array[position >= array.length ? position - array.length : position]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            index = hi;
+            // Indices before the wrap-around point, then the ones after it
+            int beforeWrap = Math.min(hi, array.length - start);
+            for (; i < beforeWrap; i++) {
+                action.accept((T) array[start + i]);
+            }
+            for (; i < hi; i++) {
+                action.accept((T) array[start + i - array.length]);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 }
\ No newline at end of file
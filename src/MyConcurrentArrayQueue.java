@@ -0,0 +1,221 @@
+import interfaces.IMyQueue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bounded lock-free queue for many producer and many consumer threads (Vyukov-style array queue).
+ * Every slot of a power-of-two ring carries a sequence number that says whose turn it is:
+ * a producer may fill slot i when its sequence equals the enqueue position,
+ * a consumer may empty it when the sequence equals the dequeue position + 1.
+ * Producers and consumers only compete on their own position counter with a single CAS,
+ * and nothing is allocated per operation.
+ *
+ * size and empty are approximate while other threads are adding or removing elements.
+ *
+ * @param <T> the type of elements stored in the queue
+ */
+public class MyConcurrentArrayQueue<T> extends MyConcurrentArrayQueueTailPadding implements IMyQueue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle SEQUENCE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(MyConcurrentArrayQueueHead.class, "head", long.class);
+            TAIL = lookup.findVarHandle(MyConcurrentArrayQueueTail.class, "tail", long.class);
+            SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] buffer;    // Ring of elements
+    private final long[] sequences;   // Turn number of every slot
+    private final int mask;           // capacity - 1, turns a position into a ring index
+
+    /**
+     * Constructs a queue that can hold at least the given number of elements.
+     * The capacity is rounded up to the next power of two (at least 2).
+     *
+     * @param capacity the minimum capacity
+     * @throws IllegalArgumentException if capacity is not positive or too large
+     */
+    public MyConcurrentArrayQueue(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        }
+        int ringSize = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = new Object[ringSize];
+        sequences = new long[ringSize];
+        for (int i = 0; i < ringSize; i++) {
+            sequences[i] = i;
+        }
+        mask = ringSize - 1;
+    }
+
+    /**
+     * Returns the number of elements the queue can hold.
+     *
+     * @return the capacity of the ring
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     * Approximate while other threads are adding or removing elements.
+     *
+     * @return true if the queue contains no elements, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the queue.
+     * Approximate while other threads are adding or removing elements.
+     *
+     * @return the size of the queue
+     */
+    @Override
+    public int size() {
+        long after = (long) HEAD.getVolatile(this);
+        while (true) {
+            long before = after;
+            long currentTail = (long) TAIL.getVolatile(this);
+            after = (long) HEAD.getVolatile(this);
+            if (before == after) {
+                return (int) Math.min(Math.max(currentTail - after, 0), buffer.length);
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     *
+     * @return the front element, or null if the queue is empty
+     */
+    @Override
+    public T peek() {
+        while (true) {
+            long position = (long) HEAD.getVolatile(this);
+            int index = (int) position & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            if (sequence < position + 1) {
+                return null;
+            }
+            if (sequence == position + 1) {
+                Object item = buffer[index];
+                if (position == (long) HEAD.getVolatile(this)) {  // Nobody dequeued it meanwhile
+                    return (T) item;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a new element to the end of the queue. Never blocks.
+     *
+     * @param newItem the element to enqueue
+     * @return the enqueued element, or null if the queue is full
+     * @throws IllegalArgumentException if the element is null
+     */
+    @Override
+    public T enqueue(T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException("Queue does not accept null elements.");
+        }
+        long position = (long) TAIL.getVolatile(this);
+        while (true) {
+            int index = (int) position & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            long difference = sequence - position;
+            if (difference == 0) {
+                if (TAIL.compareAndSet(this, position, position + 1)) {
+                    buffer[index] = newItem;
+                    SEQUENCE.setRelease(sequences, index, position + 1);  // Publishes the element
+                    return newItem;
+                }
+                position = (long) TAIL.getVolatile(this);
+            } else if (difference < 0) {
+                return null;  // The slot still holds an element from the previous lap
+            } else {
+                position = (long) TAIL.getVolatile(this);  // Another producer took this slot
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue. Never blocks.
+     *
+     * @return the removed element, or null if the queue is empty
+     */
+    @Override
+    public T dequeue() {
+        long position = (long) HEAD.getVolatile(this);
+        while (true) {
+            int index = (int) position & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            long difference = sequence - (position + 1);
+            if (difference == 0) {
+                if (HEAD.compareAndSet(this, position, position + 1)) {
+                    T removingItem = (T) buffer[index];
+                    buffer[index] = null;
+                    SEQUENCE.setRelease(sequences, index, position + buffer.length);  // Slot is free for the next lap
+                    return removingItem;
+                }
+                position = (long) HEAD.getVolatile(this);
+            } else if (difference < 0) {
+                return null;  // The slot has not been filled yet
+            } else {
+                position = (long) HEAD.getVolatile(this);  // Another consumer took this slot
+            }
+        }
+    }
+}
+
+// ========== Field layout ==========
+// Same padding scheme as MySpscQueue: the enqueue and dequeue positions
+// are kept on separate cache lines.
+
+/**
+ * Padding in front of the dequeue position.
+ */
+abstract class MyConcurrentArrayQueueHeadPadding {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+/**
+ * Dequeue position, shared by all consumers.
+ */
+abstract class MyConcurrentArrayQueueHead extends MyConcurrentArrayQueueHeadPadding {
+    volatile long head;     // Position of the next element to dequeue
+}
+
+/**
+ * Padding between the dequeue and the enqueue position.
+ */
+abstract class MyConcurrentArrayQueueMidPadding extends MyConcurrentArrayQueueHead {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p30, p31, p32, p33, p34, p35, p36;
+}
+
+/**
+ * Enqueue position, shared by all producers.
+ */
+abstract class MyConcurrentArrayQueueTail extends MyConcurrentArrayQueueMidPadding {
+    volatile long tail;     // Position of the next free slot
+}
+
+/**
+ * Padding after the enqueue position.
+ */
+abstract class MyConcurrentArrayQueueTailPadding extends MyConcurrentArrayQueueTail {
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+    long p50, p51, p52, p53, p54, p55, p56;
+}
@@ -0,0 +1,163 @@
+import interfaces.IMyQueue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Unbounded lock-free queue for many producer and many consumer threads (Michael-Scott queue).
+ * Elements are kept in a singly linked chain of nodes behind a dummy head node.
+ * Producers link a new node after the tail with a CAS on its next pointer,
+ * consumers move the head forward with a CAS. A thread that finds the tail lagging
+ * behind helps to move it forward, so no thread ever waits for another.
+ *
+ * size and empty are approximate while other threads are adding or removing elements.
+ *
+ * @param <T> the type of elements stored in the queue
+ */
+public class MyConcurrentLinkedQueue<T> implements IMyQueue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(MyConcurrentLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(MyConcurrentLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;              // Dummy node, its successor holds the front element
+    private volatile Node<T> tail;              // Last node or a node close to it
+    private final LongAdder count = new LongAdder();  // Approximate number of elements
+
+    /**
+     * Constructs an empty queue.
+     */
+    public MyConcurrentLinkedQueue() {
+        Node<T> dummy = new Node<>(null);
+        head = dummy;
+        tail = dummy;
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     *
+     * @return true if the queue contains no elements, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return head.next == null;
+    }
+
+    /**
+     * Returns the number of elements currently in the queue.
+     * Approximate while other threads are adding or removing elements.
+     *
+     * @return the size of the queue
+     */
+    @Override
+    public int size() {
+        long current = count.sum();
+        return current < 0 ? 0 : (int) Math.min(current, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     *
+     * @return the front element, or null if the queue is empty
+     */
+    @Override
+    public T peek() {
+        while (true) {
+            Node<T> first = head;
+            Node<T> next = first.next;
+            if (next == null) {
+                return null;
+            }
+            T item = next.item;
+            if (first == head) {  // Item was read before anyone dequeued it
+                return item;
+            }
+        }
+    }
+
+    /**
+     * Adds a new element to the end of the queue.
+     *
+     * @param newItem the element to enqueue
+     * @return the enqueued element
+     * @throws IllegalArgumentException if the element is null
+     */
+    @Override
+    public T enqueue(T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException("Queue does not accept null elements.");
+        }
+        Node<T> newNode = new Node<>(newItem);
+        while (true) {
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if (last != tail) {
+                continue;
+            }
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    TAIL.compareAndSet(this, last, newNode);  // May fail, another thread then helped already
+                    count.increment();
+                    return newItem;
+                }
+            } else {
+                TAIL.compareAndSet(this, last, next);  // Help a lagging tail forward
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     *
+     * @return the removed element, or null if the queue is empty
+     */
+    @Override
+    public T dequeue() {
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (first == last) {
+                if (next == null) {
+                    return null;
+                }
+                TAIL.compareAndSet(this, last, next);  // Tail is lagging, help it forward
+            } else {
+                T item = next.item;
+                if (HEAD.compareAndSet(this, first, next)) {
+                    next.item = null;  // next becomes the new dummy node
+                    count.decrement();
+                    return item;
+                }
+            }
+        }
+    }
+
+    /**
+     * A node of the linked chain.
+     *
+     * @param <E> the type of element stored in the node
+     */
+    private static final class Node<E> {
+        volatile E item;           // The element, null for the dummy node
+        volatile Node<E> next;     // Reference to the next node
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,528 @@
+import interfaces.MyList;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe decorator for a MyList with mixed reads and writes, guarded by a StampedLock.
+ * get, size, getFirst, getLast and exists first run as optimistic reads: they take no lock,
+ * then check that no writer ran in the meantime, and only repeat under the read lock if one did.
+ * Other reads take the read lock, and all mutators take the write lock.
+ * addIfAbsent, removeFirstMatching and update are atomic, so callers need no lock of their own.
+ *
+ * The wrapped list must not be used directly afterwards, and its read methods must not write to it,
+ * so only MyArrayList, MyLinkedList and MyUnrolledLinkedList are accepted.
+ * For MyLinkedList, get goes through peek, which leaves the finger alone, so reads under
+ * the shared read lock never write to the list. For MyUnrolledLinkedList, exists always takes the read lock.
+ * The lock is not reentrant: the actions given to forEach, forEachRange, forEachIndexed, removeIf
+ * and update must not call this list again.
+ *
+ * @param <T> the type of elements in the list
+ */
+public class MyConcurrentList<T> implements MyList<T> {
+    private final MyList<T> list;                  // The wrapped list
+    private final IntFunction<T> optimisticGet;    // get that does not write to the list
+    private final boolean optimisticExists;        // Whether exists may run without the lock
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Constructs an empty list backed by a MyArrayList.
+     */
+    public MyConcurrentList() {
+        this(new MyArrayList<>());
+    }
+
+    /**
+     * Constructs a thread-safe view of the given list.
+     *
+     * @param list the list to wrap
+     * @throws IllegalArgumentException if the list is not a MyArrayList, MyLinkedList or MyUnrolledLinkedList
+     */
+    public MyConcurrentList(MyList<T> list) {
+        if (!(list instanceof MyArrayList || list instanceof MyLinkedList || list instanceof MyUnrolledLinkedList)) {
+            throw new IllegalArgumentException("Cannot wrap a list whose reads may write to it: " + list.getClass().getSimpleName());
+        }
+        this.list = list;
+        if (list instanceof MyLinkedList) {
+            this.optimisticGet = ((MyLinkedList<T>) list)::peek;
+        } else {
+            this.optimisticGet = list::get;
+        }
+        this.optimisticExists = !(list instanceof MyUnrolledLinkedList);
+    }
+
+    // ========== Optimistic reads ==========
+
+    /**
+     * Returns the element at the given index, with an optimistic read.
+     *
+     * @param index index to retrieve
+     * @return element at the index
+     */
+    @Override
+    public T get(int index) {
+        return optimistic(() -> optimisticGet.apply(index), () -> optimisticGet.apply(index));
+    }
+
+    /**
+     * Returns the first element in the list, with an optimistic read.
+     *
+     * @return the first element
+     */
+    @Override
+    public T getFirst() {
+        return optimistic(list::getFirst, list::getFirst);
+    }
+
+    /**
+     * Returns the last element in the list, with an optimistic read.
+     *
+     * @return the last element
+     */
+    @Override
+    public T getLast() {
+        return optimistic(list::getLast, list::getLast);
+    }
+
+    /**
+     * Checks if the list contains the given object, with an optimistic read.
+     * For MyUnrolledLinkedList it takes the read lock, because its search follows the next links
+     * until null and could loop on links torn by a writer.
+     *
+     * @param object object to search
+     * @return true if exists, false otherwise
+     */
+    @Override
+    public boolean exists(Object object) {
+        if (!optimisticExists) {
+            return read(() -> list.exists(object));
+        }
+        return optimistic(() -> list.exists(object), () -> list.exists(object));
+    }
+
+    /**
+     * Returns the number of elements in the list, with an optimistic read.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = list.size();
+        if (lock.validate(stamp)) {
+            return size;
+        }
+        return readInt(list::size);
+    }
+
+    // ========== Compound operations ==========
+
+    /**
+     * Adds the element to the end of the list if the list does not contain it yet, as one atomic step.
+     * Checks under the read lock and upgrades to the write lock only when the element is missing.
+     *
+     * @param element element to add
+     * @return true if the element was added
+     */
+    public boolean addIfAbsent(T element) {
+        long stamp = lock.readLock();
+        try {
+            while (true) {
+                if (list.exists(element)) {
+                    return false;
+                }
+                long writeStamp = lock.tryConvertToWriteLock(stamp);
+                if (writeStamp != 0L) {
+                    stamp = writeStamp;
+                    list.addLast(element);
+                    return true;
+                }
+                // Another reader holds the lock too: wait for the write lock and check again
+                lock.unlockRead(stamp);
+                stamp = lock.writeLock();
+            }
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Removes the first element that matches the filter, as one atomic step.
+     *
+     * @param filter the condition for removing an element
+     * @return the removed element, or null if no element matched
+     */
+    public T removeFirstMatching(Predicate<? super T> filter) {
+        return writeAndGet(() -> {
+            int index = 0;
+            for (T element : list) {
+                if (filter.test(element)) {
+                    list.remove(index);
+                    return element;
+                }
+                index++;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Runs several changes on the list under the write lock, so other threads see all of them or none.
+     *
+     * @param changes the changes to apply to the wrapped list
+     */
+    public void update(Consumer<? super MyList<T>> changes) {
+        write(() -> changes.accept(list));
+    }
+
+    // ========== Writes ==========
+
+    /**
+     * Adds an element to the end of the list under the write lock.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        write(() -> list.add(element));
+    }
+
+    /**
+     * Replaces the element at the given index under the write lock.
+     *
+     * @param index   index to update
+     * @param element new value
+     */
+    @Override
+    public void set(int index, T element) {
+        write(() -> list.set(index, element));
+    }
+
+    /**
+     * Inserts an element at the specified index under the write lock.
+     *
+     * @param index   the position to insert at
+     * @param element the element to insert
+     */
+    @Override
+    public void add(int index, T element) {
+        write(() -> list.add(index, element));
+    }
+
+    /**
+     * Adds an element at the beginning of the list under the write lock.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void addFirst(T element) {
+        write(() -> list.addFirst(element));
+    }
+
+    /**
+     * Adds an element to the end of the list under the write lock.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void addLast(T element) {
+        write(() -> list.addLast(element));
+    }
+
+    /**
+     * Removes the element at the specified index under the write lock.
+     *
+     * @param index index to remove
+     */
+    @Override
+    public void remove(int index) {
+        write(() -> list.remove(index));
+    }
+
+    /**
+     * Removes the last element in the list under the write lock.
+     */
+    @Override
+    public void removeLast() {
+        write(list::removeLast);
+    }
+
+    /**
+     * Removes the first element in the list under the write lock.
+     */
+    @Override
+    public void removeFirst() {
+        write(list::removeFirst);
+    }
+
+    /**
+     * Sorts the list with the given comparator under the write lock.
+     *
+     * @param cmp comparator for sorting
+     */
+    @Override
+    public void sort(Comparator<T> cmp) {
+        write(() -> list.sort(cmp));
+    }
+
+    /**
+     * Removes all elements under the write lock.
+     */
+    @Override
+    public void clear() {
+        write(list::clear);
+    }
+
+    /**
+     * Adds all elements of another list to the end of this list.
+     * The other list is read before the write lock is taken, so it may also be this list.
+     *
+     * @param other the list whose elements are added
+     */
+    @Override
+    public void addAll(MyList<T> other) {
+        T[] items = (T[]) other.toArray();
+        write(() -> list.addAll(list.size(), items));
+    }
+
+    /**
+     * Inserts the items at the given index under the write lock.
+     *
+     * @param index the position to insert at
+     * @param items the elements to insert
+     */
+    @Override
+    public void addAll(int index, T[] items) {
+        write(() -> list.addAll(index, items));
+    }
+
+    /**
+     * Removes the elements at indices [from, to) under the write lock.
+     *
+     * @param from the first index to remove (inclusive)
+     * @param to   the last index to remove (exclusive)
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        write(() -> list.removeRange(from, to));
+    }
+
+    /**
+     * Removes all elements that match the filter under the write lock.
+     * The filter must not call this list.
+     *
+     * @param filter the condition for removing an element
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return writeAndGet(() -> list.removeIf(filter));
+    }
+
+    // ========== Reads under the read lock ==========
+
+    /**
+     * Returns the index of the first occurrence of the object, under the read lock.
+     *
+     * @param object object to find
+     * @return index or -1 if not found
+     */
+    @Override
+    public int indexOf(Object object) {
+        return readInt(() -> list.indexOf(object));
+    }
+
+    /**
+     * Returns the index of the last occurrence of the object, under the read lock.
+     *
+     * @param object object to find
+     * @return index or -1 if not found
+     */
+    @Override
+    public int lastIndexOf(Object object) {
+        return readInt(() -> list.lastIndexOf(object));
+    }
+
+    /**
+     * Returns the list as a new array, copied under the read lock.
+     *
+     * @return array of elements
+     */
+    @Override
+    public Object[] toArray() {
+        return read(list::toArray);
+    }
+
+    /**
+     * Copies the elements in list order to the start of the given array, under the read lock.
+     *
+     * @param target the array to copy into
+     */
+    @Override
+    public void copyInto(T[] target) {
+        read(() -> {
+            list.copyInto(target);
+            return null;
+        });
+    }
+
+    /**
+     * Performs the action for each element, in order, under the read lock.
+     * The action must not change this list.
+     *
+     * @param action the action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        read(() -> {
+            list.forEach(action);
+            return null;
+        });
+    }
+
+    /**
+     * Performs the action for each element at indices [from, to), in order, under the read lock.
+     * The action must not change this list.
+     *
+     * @param from   the first index (inclusive)
+     * @param to     the last index (exclusive)
+     * @param action the action to perform
+     */
+    @Override
+    public void forEachRange(int from, int to, Consumer<? super T> action) {
+        read(() -> {
+            list.forEachRange(from, to, action);
+            return null;
+        });
+    }
+
+    /**
+     * Performs the action for each element together with its index, in order, under the read lock.
+     * The action must not change this list.
+     *
+     * @param action the action to perform, receives the element and its index
+     */
+    @Override
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        read(() -> {
+            list.forEachIndexed(action);
+            return null;
+        });
+    }
+
+    /**
+     * Returns an iterator over a copy of the list taken under the read lock.
+     * It never throws ConcurrentModificationException and does not see later changes.
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over a copy of the list taken under the read lock.
+     *
+     * @return a spliterator over the elements in the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * Runs a read without locking and returns its result if no writer ran meanwhile.
+     * Otherwise, also if the read failed on a half-changed list, runs the locked read instead.
+     *
+     * @param optimisticRead the read to try without a lock, must not write to the list
+     * @param lockedRead     the read to run under the read lock
+     * @return the result of the read
+     */
+    private <R> R optimistic(Supplier<R> optimisticRead, Supplier<R> lockedRead) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                R result = optimisticRead.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;  // The list did not change, so the failure is real
+                }
+            }
+        }
+        return read(lockedRead);
+    }
+
+    /**
+     * Runs a read under the read lock.
+     *
+     * @param reader the read to run
+     * @return the result of the read
+     */
+    private <R> R read(Supplier<R> reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a read that returns an int under the read lock, without boxing it.
+     *
+     * @param reader the read to run
+     * @return the result of the read
+     */
+    private int readInt(IntSupplier reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.getAsInt();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a change under the write lock.
+     *
+     * @param writer the change to run
+     */
+    private void write(Runnable writer) {
+        long stamp = lock.writeLock();
+        try {
+            writer.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Runs a change that returns a result under the write lock.
+     *
+     * @param writer the change to run
+     * @return the result of the change
+     */
+    private <R> R writeAndGet(Supplier<R> writer) {
+        long stamp = lock.writeLock();
+        try {
+            return writer.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+import interfaces.IMyMinHeap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent min-heap with exact ordering, built on a lock-free skip list.
+ * Every element is stored together with a unique insertion number, so equal elements
+ * can live side by side and come out in insertion order.
+ * extractMin removes the first entry of the skip list, which is always the true minimum.
+ *
+ * Scales less well than MyRelaxedMinHeap under heavy extractMin contention,
+ * because all consumers compete for the same first entry.
+ * size is approximate while other threads are changing the heap.
+ *
+ * @param <T> the type of elements stored in the heap, must be Comparable
+ */
+public class MyConcurrentMinHeap<T extends Comparable<T>> implements IMyMinHeap<T> {
+    private final ConcurrentSkipListMap<Entry<T>, Boolean> entries = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();   // Source of insertion numbers
+    private final LongAdder count = new LongAdder();        // Approximate number of elements
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return true if the heap contains no elements
+     */
+    @Override
+    public boolean empty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     * Approximate while other threads are changing the heap.
+     *
+     * @return the current size of the heap
+     */
+    @Override
+    public int size() {
+        long current = count.sum();
+        return current < 0 ? 0 : (int) Math.min(current, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the minimum element in the heap without removing it.
+     *
+     * @return the minimum element, or null if the heap is empty
+     */
+    @Override
+    public T getMin() {
+        Map.Entry<Entry<T>, Boolean> first = entries.firstEntry();
+        return first == null ? null : first.getKey().item;
+    }
+
+    /**
+     * Extracts and removes the minimum element from the heap.
+     *
+     * @return the minimum element, or null if the heap is empty
+     */
+    @Override
+    public T extractMin() {
+        Map.Entry<Entry<T>, Boolean> first = entries.pollFirstEntry();
+        if (first == null) {
+            return null;
+        }
+        count.decrement();
+        return first.getKey().item;
+    }
+
+    /**
+     * Inserts a new item into the heap.
+     *
+     * @param newItem the item to insert
+     * @throws IllegalArgumentException if the item is null
+     */
+    @Override
+    public void insert(T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException("Heap does not accept null elements.");
+        }
+        entries.put(new Entry<>(newItem, sequence.getAndIncrement()), Boolean.TRUE);
+        count.increment();
+    }
+
+    /**
+     * An element with its insertion number, ordered by element first.
+     *
+     * @param <E> the type of the element
+     */
+    private static final class Entry<E extends Comparable<E>> implements Comparable<Entry<E>> {
+        final E item;
+        final long number;
+
+        Entry(E item, long number) {
+            this.item = item;
+            this.number = number;
+        }
+
+        @Override
+        public int compareTo(Entry<E> other) {
+            int result = item.compareTo(other.item);
+            return result != 0 ? result : Long.compare(number, other.number);
+        }
+    }
+}
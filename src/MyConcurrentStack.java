@@ -0,0 +1,189 @@
+import interfaces.IMyStack;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Lock-free stack for many threads (Treiber stack).
+ * The top of the stack is a single reference that push and pop change with a CAS.
+ *
+ * Optionally uses an elimination array: when a CAS on the top fails because of contention,
+ * a pushing thread parks its node in a random slot for a short time, and a popping thread
+ * that also lost the race can take it from there. Such a push/pop pair cancels out
+ * without touching the shared top at all.
+ *
+ * @param <T> the type of elements stored in the stack
+ */
+public class MyConcurrentStack<T> implements IMyStack<T> {
+    private static final VarHandle TOP;
+    private static final VarHandle SLOT;
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(MyConcurrentStack.class, "top", Node.class);
+            SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final int ELIMINATION_SPINS = 64;  // How long a pusher waits in the elimination array
+
+    private volatile Node<T> top;              // Top node, or null if the stack is empty
+    private final Object[] eliminationSlots;   // Nodes offered by pushers, null if elimination is off
+
+    /**
+     * Constructs an empty stack without an elimination array.
+     */
+    public MyConcurrentStack() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty stack with an elimination array of the given size.
+     * A size of 0 turns elimination off.
+     *
+     * @param eliminationSize the number of elimination slots
+     * @throws IllegalArgumentException if eliminationSize is negative
+     */
+    public MyConcurrentStack(int eliminationSize) {
+        if (eliminationSize < 0) {
+            throw new IllegalArgumentException("Elimination size must not be negative: " + eliminationSize);
+        }
+        eliminationSlots = eliminationSize == 0 ? null : new Object[eliminationSize];
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return true if the stack contains no elements, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return top == null;
+    }
+
+    /**
+     * Returns the number of elements currently in the stack.
+     * Every node remembers the stack depth it was pushed at, so this is a single read.
+     *
+     * @return the size of the stack
+     */
+    @Override
+    public int size() {
+        Node<T> current = top;
+        return current == null ? 0 : current.depth;
+    }
+
+    /**
+     * Returns the element at the top of the stack without removing it.
+     *
+     * @return the top element, or null if the stack is empty
+     */
+    @Override
+    public T peek() {
+        Node<T> current = top;
+        return current == null ? null : current.item;
+    }
+
+    /**
+     * Pushes a new element onto the top of the stack.
+     *
+     * @param newItem the element to push
+     * @return the pushed element
+     * @throws IllegalArgumentException if the element is null
+     */
+    @Override
+    public T push(T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException("Stack does not accept null elements.");
+        }
+        Node<T> newNode = new Node<>(newItem);
+        while (true) {
+            Node<T> current = top;
+            newNode.next = current;
+            newNode.depth = current == null ? 1 : current.depth + 1;
+            if (TOP.compareAndSet(this, current, newNode)) {
+                return newItem;
+            }
+            if (eliminationSlots != null && tryEliminatePush(newNode)) {
+                return newItem;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the top element from the stack.
+     *
+     * @return the removed element, or null if the stack is empty
+     */
+    @Override
+    public T pop() {
+        while (true) {
+            Node<T> current = top;
+            if (current == null) {
+                return null;
+            }
+            if (TOP.compareAndSet(this, current, current.next)) {
+                return current.item;
+            }
+            if (eliminationSlots != null) {
+                T item = tryEliminatePop();
+                if (item != null) {
+                    return item;
+                }
+            }
+        }
+    }
+
+    /**
+     * Offers a node in a random elimination slot and waits a short time for a popper.
+     *
+     * @param node the node to hand over
+     * @return true if a popper took the node
+     */
+    private boolean tryEliminatePush(Node<T> node) {
+        int index = ThreadLocalRandom.current().nextInt(eliminationSlots.length);
+        if (!SLOT.compareAndSet(eliminationSlots, index, null, node)) {
+            return false;  // Slot is busy, go back to the top
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (SLOT.getAcquire(eliminationSlots, index) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // Withdraw the offer; if that fails, a popper has taken it in the meantime
+        return !SLOT.compareAndSet(eliminationSlots, index, node, null);
+    }
+
+    /**
+     * Tries to take a node offered by a pusher from a random elimination slot.
+     *
+     * @return the element of the taken node, or null if no node was taken
+     */
+    private T tryEliminatePop() {
+        int index = ThreadLocalRandom.current().nextInt(eliminationSlots.length);
+        Object offered = SLOT.getAcquire(eliminationSlots, index);
+        if (offered != null && SLOT.compareAndSet(eliminationSlots, index, offered, null)) {
+            return ((Node<T>) offered).item;
+        }
+        return null;
+    }
+
+    /**
+     * A node of the stack.
+     *
+     * @param <E> the type of element stored in the node
+     */
+    private static final class Node<E> {
+        final E item;       // The element stored in this node
+        Node<E> next;       // Node below this one, published by the CAS on top
+        int depth;          // Stack size when this node is on top
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+import interfaces.IMyMinHeap;
+
+import java.util.Arrays;
+
+/**
+ * Min-heap with a configurable number of children per node (d-ary heap),
+ * stored in its own contiguous array instead of a MyList.
+ * A wider heap is shallower, so with arity 4 or 8 a sift touches fewer cache lines
+ * than a binary heap once it holds millions of elements.
+ * Sift-up and sift-down move a hole through the array and write each element once,
+ * instead of swapping with three writes per level.
+ *
+ * @param <T> the type of elements stored in the heap, must be Comparable
+ */
+public class MyDaryMinHeap<T extends Comparable<T>> implements IMyMinHeap<T> {
+    private static final int DEFAULT_ARITY = 4;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] heap;      // Heap-ordered elements, first size slots are used
+    private int size;           // Number of elements in the heap
+    private final int arity;    // Number of children per node
+    private final int shift;    // log2(arity), turns multiplication by arity into a shift
+
+    /**
+     * Constructs an empty 4-ary heap.
+     */
+    public MyDaryMinHeap() {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs an empty heap with the given number of children per node.
+     *
+     * @param arity the number of children per node, a power of two between 2 and 64
+     * @throws IllegalArgumentException if arity is not a power of two in that range
+     */
+    public MyDaryMinHeap(int arity) {
+        if (arity < 2 || arity > 64 || Integer.bitCount(arity) != 1) {
+            throw new IllegalArgumentException("Arity must be a power of two between 2 and 64: " + arity);
+        }
+        this.arity = arity;
+        this.shift = Integer.numberOfTrailingZeros(arity);
+        this.heap = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the number of children per node.
+     *
+     * @return the arity of the heap
+     */
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return true if the heap contains no elements
+     */
+    @Override
+    public boolean empty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the current size of the heap
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Inserts a new item into the heap and restores heap order.
+     *
+     * @param newItem the item to insert
+     * @throws IllegalArgumentException if the item is null
+     */
+    @Override
+    public void insert(T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException("Heap does not accept null elements.");
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        traverseUp(size++, newItem);
+    }
+
+    /**
+     * Returns the minimum element in the heap without removing it.
+     *
+     * @return the minimum element, or null if the heap is empty
+     */
+    @Override
+    public T getMin() {
+        return size == 0 ? null : (T) heap[0];
+    }
+
+    /**
+     * Extracts and removes the minimum element from the heap.
+     * The last element fills the hole left at the root and is sifted down.
+     *
+     * @return the minimum element, or null if the heap is empty
+     */
+    @Override
+    public T extractMin() {
+        if (size == 0) {
+            return null;
+        }
+        T min = (T) heap[0];
+        T last = (T) heap[--size];
+        heap[size] = null;
+        if (size > 0) {
+            heapify(0, last);
+        }
+        return min;
+    }
+
+    /**
+     * Moves the hole at index down until value fits, then stores value there.
+     *
+     * @param index the index of the hole
+     * @param value the element to place
+     */
+    private void heapify(int index, T value) {
+        Object[] heap = this.heap;
+        int size = this.size;
+        while (true) {
+            int first = (index << shift) + 1;
+            if (first >= size) {
+                break;
+            }
+
+            // Find the smallest child
+            int end = Math.min(first + arity, size);
+            int smallest = first;
+            T smallestValue = (T) heap[first];
+            for (int child = first + 1; child < end; child++) {
+                T candidate = (T) heap[child];
+                if (candidate.compareTo(smallestValue) < 0) {
+                    smallest = child;
+                    smallestValue = candidate;
+                }
+            }
+
+            if (value.compareTo(smallestValue) <= 0) {
+                break;
+            }
+            heap[index] = smallestValue;
+            index = smallest;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * Moves the hole at index up until value fits, then stores value there.
+     *
+     * @param index the index of the hole
+     * @param value the element to place
+     */
+    private void traverseUp(int index, T value) {
+        Object[] heap = this.heap;
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> shift;
+            T parent = (T) heap[parentIndex];
+            if (parent.compareTo(value) <= 0) {
+                break;
+            }
+            heap[index] = parent;
+            index = parentIndex;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,84 @@
+import interfaces.IMyDoubleQueue;
+import interfaces.MyDoubleList;
+
+/**
+ * MyDoubleQueue is a queue of primitive double values based on a MyDoubleList.
+ * It follows the First-In-First-Out (FIFO) principle without boxing any value.
+ */
+public class MyDoubleQueue implements IMyDoubleQueue {
+
+    // The underlying list used to store queue elements
+    private MyDoubleList list;
+
+    /**
+     * Constructs a new queue backed by a MyDoubleArrayList.
+     */
+    public MyDoubleQueue(){
+        this(new MyDoubleArrayList());
+    }
+
+    /**
+     * Constructs a new queue using the given list implementation.
+     *
+     * @param list the list implementation to use
+     */
+    public MyDoubleQueue(MyDoubleList list){
+        this.list = list;
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     *
+     * @return true if the queue contains no elements, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return list.size() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the queue.
+     *
+     * @return the size of the queue
+     */
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns the value at the front of the queue without removing it.
+     *
+     * @return the front value
+     * @throws IllegalStateException if the queue is empty
+     */
+    @Override
+    public double peekDouble() {
+        return list.getFirstDouble();
+    }
+
+    /**
+     * Adds a new value to the end of the queue.
+     *
+     * @param newItem the value to enqueue
+     * @return the enqueued value
+     */
+    @Override
+    public double enqueueDouble(double newItem) {
+        list.addLastDouble(newItem);
+        return newItem;
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue.
+     *
+     * @return the removed value
+     * @throws IllegalStateException if the queue is empty
+     */
+    @Override
+    public double dequeueDouble() {
+        double removingItem = peekDouble();   // Get the front value
+        list.removeFirst();                // Remove it from the list
+        return removingItem;
+    }
+}
@@ -0,0 +1,84 @@
+import interfaces.IMyDoubleStack;
+import interfaces.MyDoubleList;
+
+/**
+ * MyDoubleStack is a stack of primitive double values based on a MyDoubleList.
+ * It follows the Last-In-First-Out (LIFO) principle without boxing any value.
+ */
+public class MyDoubleStack implements IMyDoubleStack {
+
+    // The underlying list used to store stack elements
+    private MyDoubleList list;
+
+    /**
+     * Constructs a new stack backed by a MyDoubleArrayList.
+     */
+    public MyDoubleStack(){
+        this(new MyDoubleArrayList());
+    }
+
+    /**
+     * Constructs a new stack using the given list implementation.
+     *
+     * @param list the list implementation to use
+     */
+    public MyDoubleStack(MyDoubleList list){
+        this.list = list;
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return true if the stack contains no elements, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return list.size() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the stack.
+     *
+     * @return the size of the stack
+     */
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns the value at the top of the stack without removing it.
+     *
+     * @return the top value
+     * @throws IllegalStateException if the stack is empty
+     */
+    @Override
+    public double peekDouble() {
+        return list.getLastDouble();
+    }
+
+    /**
+     * Pushes a new value onto the top of the stack.
+     *
+     * @param newItem the value to push
+     * @return the pushed value
+     */
+    @Override
+    public double pushDouble(double newItem) {
+        list.addLastDouble(newItem);
+        return newItem;
+    }
+
+    /**
+     * Removes and returns the top value from the stack.
+     *
+     * @return the removed value
+     * @throws IllegalStateException if the stack is empty
+     */
+    @Override
+    public double popDouble() {
+        double removingItem = peekDouble();   // Get the top value
+        list.removeLast();               // Remove it from the list
+        return removingItem;
+    }
+}
@@ -0,0 +1,268 @@
+import interfaces.IMyHeapHandle;
+import interfaces.IMyIndexedMinHeap;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap whose elements can be changed or removed after insertion (indexed priority queue).
+ * insert returns a handle for the element. Every handle knows the element's current
+ * position in the heap array, and each sift step updates it, so decreaseKey, increaseKey,
+ * remove and contains all run in O(log n) or better without searching.
+ * Useful for Dijkstra/A* searches and timeout schedulers, where a priority changes
+ * instead of a duplicate entry being inserted.
+ *
+ * @param <T> the type of elements stored in the heap, must be Comparable
+ */
+public class MyIndexedMinHeap<T extends Comparable<T>> implements IMyIndexedMinHeap<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Entry<T>[] heap;   // Heap-ordered entries, first size slots are used
+    private int size;          // Number of elements in the heap
+
+    /**
+     * Constructs an empty heap.
+     */
+    public MyIndexedMinHeap() {
+        @SuppressWarnings("unchecked")  // The array only ever holds entries of this heap
+        Entry<T>[] entries = (Entry<T>[]) new Entry<?>[INITIAL_CAPACITY];
+        heap = entries;
+    }
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return true if the heap contains no elements
+     */
+    @Override
+    public boolean empty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the current size of the heap
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the minimum element in the heap without removing it.
+     *
+     * @return the minimum element, or null if the heap is empty
+     */
+    @Override
+    public T getMin() {
+        return size == 0 ? null : heap[0].key;
+    }
+
+    /**
+     * Extracts and removes the minimum element from the heap.
+     * Its handle is no longer contained in the heap afterwards.
+     *
+     * @return the minimum element, or null if the heap is empty
+     */
+    @Override
+    public T extractMin() {
+        if (size == 0) {
+            return null;
+        }
+        Entry<T> min = heap[0];
+        removeAt(0);
+        return min.key;
+    }
+
+    /**
+     * Inserts a new item into the heap and restores heap order.
+     *
+     * @param newItem the item to insert
+     * @return a handle that refers to the inserted item
+     * @throws IllegalArgumentException if the item is null
+     */
+    @Override
+    public IMyHeapHandle<T> insert(T newItem) {
+        checkKey(newItem);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        Entry<T> entry = new Entry<>(this, newItem);
+        traverseUp(size++, entry);
+        return entry;
+    }
+
+    /**
+     * Lowers the key of an element and moves it up to its new place.
+     *
+     * @param handle the handle returned by insert
+     * @param newKey the new key, not greater than the current one
+     * @throws IllegalArgumentException if the handle is not in this heap or newKey is greater
+     */
+    @Override
+    public void decreaseKey(IMyHeapHandle<T> handle, T newKey) {
+        Entry<T> entry = entryOf(handle);
+        checkKey(newKey);
+        if (newKey.compareTo(entry.key) > 0) {
+            throw new IllegalArgumentException("New key is greater than the current key.");
+        }
+        entry.key = newKey;
+        traverseUp(entry.index, entry);
+    }
+
+    /**
+     * Raises the key of an element and moves it down to its new place.
+     *
+     * @param handle the handle returned by insert
+     * @param newKey the new key, not less than the current one
+     * @throws IllegalArgumentException if the handle is not in this heap or newKey is less
+     */
+    @Override
+    public void increaseKey(IMyHeapHandle<T> handle, T newKey) {
+        Entry<T> entry = entryOf(handle);
+        checkKey(newKey);
+        if (newKey.compareTo(entry.key) < 0) {
+            throw new IllegalArgumentException("New key is less than the current key.");
+        }
+        entry.key = newKey;
+        heapify(entry.index, entry);
+    }
+
+    /**
+     * Removes an element from the heap.
+     *
+     * @param handle the handle returned by insert
+     * @throws IllegalArgumentException if the handle is not in this heap
+     */
+    @Override
+    public void remove(IMyHeapHandle<T> handle) {
+        removeAt(entryOf(handle).index);
+    }
+
+    /**
+     * Checks whether the element of a handle is still in this heap.
+     *
+     * @param handle the handle returned by insert
+     * @return true if the element has not been extracted or removed
+     */
+    @Override
+    public boolean contains(IMyHeapHandle<T> handle) {
+        return handle instanceof Entry && ((Entry<?>) handle).owner == this && ((Entry<?>) handle).index >= 0;
+    }
+
+    /**
+     * Removes the entry at the given position and fills the hole with the last entry.
+     *
+     * @param index the position to remove
+     */
+    private void removeAt(int index) {
+        Entry<T> removed = heap[index];
+        Entry<T> last = heap[--size];
+        heap[size] = null;
+        removed.index = -1;
+        if (index == size) {
+            return;
+        }
+
+        // The last entry may belong above or below the hole
+        if (index > 0 && last.key.compareTo(heap[(index - 1) >>> 1].key) < 0) {
+            traverseUp(index, last);
+        } else {
+            heapify(index, last);
+        }
+    }
+
+    /**
+     * Moves the hole at index up until the entry fits, then stores it there.
+     * Updates the position of every entry it moves.
+     *
+     * @param index the index of the hole
+     * @param entry the entry to place
+     */
+    private void traverseUp(int index, Entry<T> entry) {
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            Entry<T> parent = heap[parentIndex];
+            if (parent.key.compareTo(entry.key) <= 0) {
+                break;
+            }
+            heap[index] = parent;
+            parent.index = index;
+            index = parentIndex;
+        }
+        heap[index] = entry;
+        entry.index = index;
+    }
+
+    /**
+     * Moves the hole at index down until the entry fits, then stores it there.
+     * Updates the position of every entry it moves.
+     *
+     * @param index the index of the hole
+     * @param entry the entry to place
+     */
+    private void heapify(int index, Entry<T> entry) {
+        int half = size >>> 1;  // Nodes from here on have no children
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right].key.compareTo(heap[child].key) < 0) {
+                child = right;
+            }
+            if (entry.key.compareTo(heap[child].key) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            heap[index].index = index;
+            index = child;
+        }
+        heap[index] = entry;
+        entry.index = index;
+    }
+
+    /**
+     * Returns the entry behind a handle, checking that it is still in this heap.
+     *
+     * @param handle the handle to check
+     * @return the entry
+     * @throws IllegalArgumentException if the handle is not in this heap
+     */
+    private Entry<T> entryOf(IMyHeapHandle<T> handle) {
+        if (!contains(handle)) {
+            throw new IllegalArgumentException("Handle does not refer to an element of this heap.");
+        }
+        return (Entry<T>) handle;
+    }
+
+    /**
+     * Throws an exception for null keys.
+     *
+     * @param key the key to check
+     */
+    private void checkKey(T key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Heap does not accept null elements.");
+        }
+    }
+
+    /**
+     * An element of the heap together with its current position; doubles as its handle.
+     *
+     * @param <E> the type of the element
+     */
+    private static final class Entry<E> implements IMyHeapHandle<E> {
+        final Object owner;  // The heap this entry was inserted into
+        E key;               // The element
+        int index;           // Position in the heap array, -1 once removed
+
+        Entry(Object owner, E key) {
+            this.owner = owner;
+            this.key = key;
+        }
+
+        @Override
+        public E get() {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/**
+ * Dynamic array list of primitive int values.
+ * Works like MyArrayList (a circular buffer with a head offset, O(1) at both ends),
+ * but keeps the values in a int[] directly: nothing is boxed, comparisons need no
+ * pointer dereference, and memory is only allocated when the array grows.
+ */
+
+import interfaces.MyIntList;
+
+import java.util.Arrays;  // Used to sort the backing array
+
+public class MyIntArrayList implements MyIntList {
+    private int size;              // Current number of elements in the list
+    private int[] elements;     // Array to store elements
+    private int head;              // Position of the first element in the array
+
+    /**
+     * Constructs a new MyIntArrayList with an initial capacity of 10.
+     */
+    public MyIntArrayList(){
+        elements = new int[10];
+        size = 0;
+        head = 0;
+    }
+
+    /**
+     * Maps a list index to its position in the circular array.
+     *
+     * @param index the list index
+     * @return the position in the array
+     */
+    private int slot(int index) {
+        int position = head + index;
+        return position >= elements.length ? position - elements.length : position;
+    }
+
+    /**
+     * Ensures that there is enough capacity in the array.
+     * Increases the capacity if the array is full.
+     */
+    private void ensureCapacity() {
+        if (elements.length == size) {
+            increaseCapacity();
+        }
+    }
+
+    /**
+     * Doubles the capacity of the internal array.
+     * Elements are moved to the start of the new array.
+     */
+    private void increaseCapacity(){
+        int[] temp = new int[Math.max(size * 2, 10)];
+        copyTo(temp);
+        elements = temp;
+        head = 0;
+    }
+
+    /**
+     * Copies the elements in list order to the start of the given array.
+     *
+     * @param target the array to copy into, at least size long
+     */
+    private void copyTo(int[] target) {
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, target, 0, firstPart);
+        System.arraycopy(elements, 0, target, firstPart, size - firstPart);
+    }
+
+    /**
+     * Throws an exception if the list is empty.
+     */
+    private void checkEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("List is empty.");
+        }
+    }
+
+    /**
+     * Checks if the index is valid.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + " out of bounds. Size: " + size);
+        }
+    }
+
+    /**
+     * Sorts the list in ascending order.
+     */
+    public void sort() {
+        if (head + size > elements.length) {
+            moveHeadToStart();
+        }
+        Arrays.sort(elements, head, head + size);
+    }
+
+    /**
+     * Rotates the array so that the first element is at position 0.
+     * Uses three in-place reversals, so no extra array is needed.
+     */
+    private void moveHeadToStart() {
+        reverse(0, head);
+        reverse(head, elements.length);
+        reverse(0, elements.length);
+        head = 0;
+    }
+
+    /**
+     * Reverses the positions [from, to) of the array.
+     *
+     * @param from the first position (inclusive)
+     * @param to   the last position (exclusive)
+     */
+    private void reverse(int from, int to) {
+        for (to--; from < to; from++, to--) {
+            int temp = elements[from];
+            elements[from] = elements[to];
+            elements[to] = temp;
+        }
+    }
+
+    /**
+     * Converts the list to an array.
+     *
+     * @return a new array containing all elements of the list
+     */
+    public int[] toIntArray(){
+        int[] result = new int[size];
+        copyTo(result);
+        return result;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value.
+     *
+     * @param value the value to search for
+     * @return the index of the value, or -1 if not found
+     */
+    public int indexOfInt(int value){
+        for(int i = 0; i < size; i++){
+            if(elements[slot(i)] == value){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value.
+     *
+     * @param value the value to search for
+     * @return the index of the value, or -1 if not found
+     */
+    public int lastIndexOfInt(int value){
+        for(int i = size - 1; i >= 0; i--){
+            if(elements[slot(i)] == value){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the list contains the specified value.
+     *
+     * @param value the value to check
+     * @return true if found, false otherwise
+     */
+    public boolean existsInt(int value){
+        return indexOfInt(value) != -1;
+    }
+
+    /**
+     * Replaces the element at the specified index with the given value.
+     *
+     * @param index   the index of the element to replace
+     * @param element the new value
+     */
+    public void setInt(int index, int element){
+        checkIndex(index);
+        elements[slot(index)] = element;
+    }
+
+    /**
+     * Adds a value to the end of the list.
+     *
+     * @param element the value to add
+     */
+    public void addInt(int element){
+        addLastInt(element);
+    }
+
+    /**
+     * Inserts a value at the specified index.
+     * Shifts whichever side of the index holds fewer elements.
+     *
+     * @param index   the position to insert at
+     * @param element the value to insert
+     */
+    public void addInt(int index, int element){
+        checkIndex(index);
+        ensureCapacity();
+        if (index < size / 2) {
+            head = head == 0 ? elements.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[slot(i)] = elements[slot(i - 1)];
+            }
+        }
+        elements[slot(index)] = element;
+        size++;
+    }
+
+    /**
+     * Adds a value to the beginning of the list.
+     *
+     * @param element the value to add
+     */
+    public void addFirstInt(int element){
+        ensureCapacity();
+        head = head == 0 ? elements.length - 1 : head - 1;
+        elements[head] = element;
+        size++;
+    }
+
+    /**
+     * Adds a value to the end of the list.
+     *
+     * @param element the value to add
+     */
+    public void addLastInt(int element){
+        ensureCapacity();
+        elements[slot(size)] = element;
+        size++;
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index the index to retrieve
+     * @return the value at the specified index
+     */
+    public int getInt(int index){
+        checkIndex(index);
+        return elements[slot(index)];
+    }
+
+    /**
+     * Returns the first value in the list.
+     *
+     * @return the first value
+     */
+    public int getFirstInt(){
+        checkEmpty();
+        return elements[head];
+    }
+
+    /**
+     * Returns the last value in the list.
+     *
+     * @return the last value
+     */
+    public int getLastInt(){
+        checkEmpty();
+        return elements[slot(size - 1)];
+    }
+
+    /**
+     * Removes the last element from the list.
+     */
+    public void removeLast(){
+        checkEmpty();
+        size--;
+    }
+
+    /**
+     * Removes the first element from the list.
+     */
+    public void removeFirst(){
+        checkEmpty();
+        head = head == elements.length - 1 ? 0 : head + 1;
+        size--;
+    }
+
+    /**
+     * Removes the element at the specified index.
+     * Shifts whichever side of the index holds fewer elements.
+     *
+     * @param index the index to remove
+     */
+    public void remove(int index){
+        checkIndex(index);
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                elements[slot(i)] = elements[slot(i - 1)];
+            }
+            head = head == elements.length - 1 ? 0 : head + 1;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+        }
+        size--;
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    public void clear(){
+        size = 0;
+        head = 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size(){
+        return size;
+    }
+}
\ No newline at end of file
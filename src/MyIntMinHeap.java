@@ -0,0 +1,133 @@
+import interfaces.IMyIntMinHeap;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of primitive int values stored in a int[].
+ * Values are compared directly, nothing is boxed, and sift-up/sift-down move a hole
+ * through the array instead of swapping, so every level costs one write.
+ */
+public class MyIntMinHeap implements IMyIntMinHeap {
+    private int[] heap;  // Heap-ordered values, first size slots are used
+    private int size;  // Number of values in the heap
+
+    /**
+     * Constructs an empty heap with an initial capacity of 10.
+     */
+    public MyIntMinHeap(){
+        heap = new int[10];
+    }
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return true if the heap contains no elements
+     */
+    @Override
+    public boolean empty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the current size of the heap
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Inserts a new value into the heap and restores heap order.
+     *
+     * @param newItem the value to insert
+     */
+    @Override
+    public void insertInt(int newItem) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        traverseUp(size++, newItem);
+    }
+
+    /**
+     * Returns the minimum value in the heap without removing it.
+     *
+     * @return the minimum value
+     * @throws IllegalStateException if the heap is empty
+     */
+    @Override
+    public int getMinInt() {
+        checkEmpty();
+        return heap[0];
+    }
+
+    /**
+     * Extracts and removes the minimum value from the heap.
+     *
+     * @return the minimum value
+     * @throws IllegalStateException if the heap is empty
+     */
+    @Override
+    public int extractMinInt() {
+        checkEmpty();
+        int min = heap[0];
+        int last = heap[--size];
+        if (size > 0) {
+            heapify(0, last);
+        }
+        return min;
+    }
+
+    /**
+     * Moves the hole at index down until value fits, then stores value there.
+     *
+     * @param index the index of the hole
+     * @param value the value to place
+     */
+    private void heapify(int index, int value){
+        int half = size >>> 1;  // Nodes from here on have no children
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right] < heap[child]) {
+                child = right;
+            }
+            if (value <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * Moves the hole at index up until value fits, then stores value there.
+     *
+     * @param index the index of the hole
+     * @param value the value to place
+     */
+    private void traverseUp(int index, int value){
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int parent = heap[parentIndex];
+            if (parent <= value) {
+                break;
+            }
+            heap[index] = parent;
+            index = parentIndex;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * Throws an exception if the heap is empty.
+     */
+    private void checkEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty.");
+        }
+    }
+}
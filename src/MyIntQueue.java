@@ -0,0 +1,84 @@
+import interfaces.IMyIntQueue;
+import interfaces.MyIntList;
+
+/**
+ * MyIntQueue is a queue of primitive int values based on a MyIntList.
+ * It follows the First-In-First-Out (FIFO) principle without boxing any value.
+ */
+public class MyIntQueue implements IMyIntQueue {
+
+    // The underlying list used to store queue elements
+    private MyIntList list;
+
+    /**
+     * Constructs a new queue backed by a MyIntArrayList.
+     */
+    public MyIntQueue(){
+        this(new MyIntArrayList());
+    }
+
+    /**
+     * Constructs a new queue using the given list implementation.
+     *
+     * @param list the list implementation to use
+     */
+    public MyIntQueue(MyIntList list){
+        this.list = list;
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     *
+     * @return true if the queue contains no elements, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return list.size() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the queue.
+     *
+     * @return the size of the queue
+     */
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns the value at the front of the queue without removing it.
+     *
+     * @return the front value
+     * @throws IllegalStateException if the queue is empty
+     */
+    @Override
+    public int peekInt() {
+        return list.getFirstInt();
+    }
+
+    /**
+     * Adds a new value to the end of the queue.
+     *
+     * @param newItem the value to enqueue
+     * @return the enqueued value
+     */
+    @Override
+    public int enqueueInt(int newItem) {
+        list.addLastInt(newItem);
+        return newItem;
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue.
+     *
+     * @return the removed value
+     * @throws IllegalStateException if the queue is empty
+     */
+    @Override
+    public int dequeueInt() {
+        int removingItem = peekInt();   // Get the front value
+        list.removeFirst();                // Remove it from the list
+        return removingItem;
+    }
+}
@@ -0,0 +1,84 @@
+import interfaces.IMyIntStack;
+import interfaces.MyIntList;
+
+/**
+ * MyIntStack is a stack of primitive int values based on a MyIntList.
+ * It follows the Last-In-First-Out (LIFO) principle without boxing any value.
+ */
+public class MyIntStack implements IMyIntStack {
+
+    // The underlying list used to store stack elements
+    private MyIntList list;
+
+    /**
+     * Constructs a new stack backed by a MyIntArrayList.
+     */
+    public MyIntStack(){
+        this(new MyIntArrayList());
+    }
+
+    /**
+     * Constructs a new stack using the given list implementation.
+     *
+     * @param list the list implementation to use
+     */
+    public MyIntStack(MyIntList list){
+        this.list = list;
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return true if the stack contains no elements, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return list.size() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the stack.
+     *
+     * @return the size of the stack
+     */
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns the value at the top of the stack without removing it.
+     *
+     * @return the top value
+     * @throws IllegalStateException if the stack is empty
+     */
+    @Override
+    public int peekInt() {
+        return list.getLastInt();
+    }
+
+    /**
+     * Pushes a new value onto the top of the stack.
+     *
+     * @param newItem the value to push
+     * @return the pushed value
+     */
+    @Override
+    public int pushInt(int newItem) {
+        list.addLastInt(newItem);
+        return newItem;
+    }
+
+    /**
+     * Removes and returns the top value from the stack.
+     *
+     * @return the removed value
+     * @throws IllegalStateException if the stack is empty
+     */
+    @Override
+    public int popInt() {
+        int removingItem = peekInt();   // Get the top value
+        list.removeLast();               // Remove it from the list
+        return removingItem;
+    }
+}
@@ -1,7 +1,15 @@
 import interfaces.MyList;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
 
 /**
  * A custom doubly linked list implementation.
@@ -9,9 +17,14 @@ import java.util.Iterator;
  * @param <T> the type of elements in the list
  */
 public class MyLinkedList<T> implements MyList<T> {
+    private static final int BATCH_UNIT = 1 << 10;  // Growth of the batch taken by each split
+    private static final int MAX_BATCH = 1 << 25;   // Largest batch taken by one split
+
     private MyNode<T> head;  // First node of the list
     private MyNode<T> tail;  // Last node of the list
     private int size;        // Number of elements in the list
+    private Finger<T> finger; // Last node reached by index with its index, or null if unknown
+    private int modCount;    // Number of structural changes, checked by forEach
 
     /**
      * Sets the element at the specified index.
@@ -22,11 +35,7 @@ public class MyLinkedList<T> implements MyList<T> {
     @Override
     public void set(int index, T element) {
         checkIndex(index);
-        MyNode<T> current = head;
-        for(int i = 0; i < index; i++){
-            current = current.next;
-        }
-        current.data = element;
+        node(index).data = element;
     }
 
     /**
@@ -58,10 +67,7 @@ public class MyLinkedList<T> implements MyList<T> {
             return;
         }
 
-        MyNode<T> current = head;
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
+        MyNode<T> current = node(index);
 
         MyNode<T> newNode = new MyNode<>(element);
         MyNode<T> prevNode = current.prev;
@@ -78,6 +84,8 @@ public class MyLinkedList<T> implements MyList<T> {
             head = newNode;
         }
         size++;
+        modCount++;
+        finger = new Finger<>(newNode, index);
     }
 
     /**
@@ -97,6 +105,8 @@ public class MyLinkedList<T> implements MyList<T> {
             tail = newNode;
         }
         size++;
+        modCount++;
+        shiftFinger(1);
     }
 
     /**
@@ -115,6 +125,7 @@ public class MyLinkedList<T> implements MyList<T> {
             tail = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -126,11 +137,19 @@ public class MyLinkedList<T> implements MyList<T> {
     @Override
     public T get(int index) {
         checkIndex(index);
-        MyNode<T> current = head;
-        for(int i = 0; i < index; i++){
-            current = current.next;
-        }
-        return current.data;
+        return node(index).data;
+    }
+
+    /**
+     * Returns the element at the given index without moving the finger, so the list is not written.
+     * Used by MyConcurrentList for optimistic reads, which may run while the list is being changed.
+     *
+     * @param index index to retrieve
+     * @return element at the index
+     */
+    T peek(int index) {
+        checkIndex(index);
+        return walk(index).data;
     }
 
     /**
@@ -173,10 +192,7 @@ public class MyLinkedList<T> implements MyList<T> {
             return;
         }
 
-        MyNode<T> toRemove = head;
-        for (int i = 0; i < index; i++) {
-            toRemove = toRemove.next;
-        }
+        MyNode<T> toRemove = node(index);
 
         MyNode<T> prevNode = toRemove.prev;
         MyNode<T> nextNode = toRemove.next;
@@ -185,6 +201,9 @@ public class MyLinkedList<T> implements MyList<T> {
         if (nextNode != null) nextNode.prev = prevNode;
 
         size--;
+
+        modCount++;
+        finger = nextNode == null ? null : new Finger<>(nextNode, index);  // nextNode has moved to the removed index
     }
 
     /**
@@ -193,10 +212,15 @@ public class MyLinkedList<T> implements MyList<T> {
     @Override
     public void removeFirst() {
         checkEmpty();
+        if (finger != null && finger.node == head) {
+            finger = null;
+        }
+        shiftFinger(-1);
         head = head.next;
         if (head != null) {
             head.prev = null;
         }
+        modCount++;
         if (--size == 0) {
             tail = null;
         }
@@ -208,6 +232,9 @@ public class MyLinkedList<T> implements MyList<T> {
     @Override
     public void removeLast() {
         checkEmpty();
+        if (finger != null && finger.node == tail) {
+            finger = null;
+        }
 
         if (size == 1) {
             head = tail = null;
@@ -216,30 +243,205 @@ public class MyLinkedList<T> implements MyList<T> {
             tail.next = null;
         }
         size--;
+        modCount++;
     }
 
     /**
      * Sorts the list using the given comparator.
-     * Uses bubble sort.
+     * Uses a stable bottom-up merge sort that relinks the nodes in place:
+     * runs of width 1, 2, 4, ... are merged until one run is left,
+     * so it does O(n log n) comparisons and allocates nothing.
      *
      * @param cmp comparator to define order
      */
     @Override
     public void sort(Comparator<T> cmp) {
-        boolean swapped;
-        do {
-            swapped = false;
-            MyNode<T> current = head;
-            while (current != null && current.next != null) {
-                if (cmp.compare(current.data, current.next.data) > 0) {
-                    T temp = current.data;
-                    current.data = current.next.data;
-                    current.next.data = temp;
-                    swapped = true;
+        if (size < 2) {
+            return;
+        }
+
+        MyNode<T> first = head;
+        int width = 1;
+        while (true) {
+            MyNode<T> left = first;
+            MyNode<T> last = null;   // Last node of the merged output so far
+            first = null;
+            int merges = 0;
+
+            while (left != null) {
+                merges++;
+
+                // Find the start of the right run
+                MyNode<T> right = left;
+                int leftSize = 0;
+                while (leftSize < width && right != null) {
+                    right = right.next;
+                    leftSize++;
                 }
-                current = current.next;
+                int rightSize = width;
+
+                // Merge the two runs, taking from the left one on ties to keep the sort stable
+                while (leftSize > 0 || (rightSize > 0 && right != null)) {
+                    MyNode<T> next;
+                    if (leftSize == 0) {
+                        next = right;
+                        right = right.next;
+                        rightSize--;
+                    } else if (rightSize == 0 || right == null || cmp.compare(left.data, right.data) <= 0) {
+                        next = left;
+                        left = left.next;
+                        leftSize--;
+                    } else {
+                        next = right;
+                        right = right.next;
+                        rightSize--;
+                    }
+
+                    if (last == null) {
+                        first = next;
+                    } else {
+                        last.next = next;
+                    }
+                    next.prev = last;
+                    last = next;
+                }
+                left = right;
+            }
+            last.next = null;
+
+            if (merges <= 1) {
+                head = first;
+                tail = last;
+                finger = null;  // Nodes have moved, cached index is no longer valid
+                modCount++;
+                return;
+            }
+            width *= 2;
+        }
+    }
+
+    /**
+     * Adds all elements of another list to the end of this list.
+     * The new nodes are linked into a chain first and spliced onto the tail in one step.
+     *
+     * @param other the list whose elements to add, may be this list
+     */
+    @Override
+    public void addAll(MyList<T> other) {
+        if (other.size() == 0) {
+            return;
+        }
+        // Copy first when adding a list to itself, so the walk does not see its own new nodes
+        Iterable<T> items = other == this ? Arrays.asList((T[]) other.toArray()) : other;
+        insertAfter(tail, items);
+    }
+
+    /**
+     * Inserts all elements of an array at the specified index.
+     * The new nodes are linked into a chain first and spliced in with one walk to the index.
+     *
+     * @param index the position to insert at, from 0 to size
+     * @param items the elements to insert
+     */
+    @Override
+    public void addAll(int index, T[] items) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + " out of bounds. Size: " + size);
+        }
+        if (items.length == 0) {
+            return;
+        }
+        MyNode<T> before = index == 0 ? null : node(index - 1);
+        insertAfter(before, Arrays.asList(items));
+    }
+
+    /**
+     * Removes the elements at indices [from, to) by unlinking the whole segment at once.
+     *
+     * @param from the first index to remove (inclusive)
+     * @param to   the last index to remove (exclusive)
+     * @throws IndexOutOfBoundsException if the range is not inside the list
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + ") out of bounds. Size: " + size);
+        }
+        if (from == to) {
+            return;
+        }
+        MyNode<T> first = node(from);
+        MyNode<T> last = first;
+        for (int i = from + 1; i < to; i++) {
+            last = last.next;
+        }
+
+        MyNode<T> before = first.prev;
+        MyNode<T> after = last.next;
+        if (before == null) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        if (after == null) {
+            tail = before;
+        } else {
+            after.prev = before;
+        }
+        size -= to - from;
+        modCount++;
+        finger = after == null ? null : new Finger<>(after, from);  // after has moved to index from
+    }
+
+    /**
+     * Removes all elements that match the filter in a single pass, unlinking each matching node.
+     * If the filter throws, the elements it has not reached yet are kept.
+     *
+     * @param filter the condition for removing an element
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int oldSize = size;
+        finger = null;  // Indices are about to change, even if the filter throws halfway
+        MyNode<T> current = head;
+        while (current != null) {
+            MyNode<T> next = current.next;
+            if (filter.test(current.data)) {
+                if (current.prev == null) {
+                    head = next;
+                } else {
+                    current.prev.next = next;
+                }
+                if (next == null) {
+                    tail = current.prev;
+                } else {
+                    next.prev = current.prev;
+                }
+                size--;
+                modCount++;
             }
-        } while (swapped);
+            current = next;
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Copies the elements in list order to the start of the given array.
+     *
+     * @param target the array to copy into
+     * @throws IndexOutOfBoundsException if the array is shorter than the list
+     */
+    @Override
+    public void copyInto(T[] target) {
+        if (target.length < size) {
+            throw new IndexOutOfBoundsException("Array length: " + target.length + " is less than size: " + size);
+        }
+        MyNode<T> current = head;
+        for (int i = 0; i < size; i++) {
+            target[i] = current.data;
+            current = current.next;
+        }
     }
 
     /**
@@ -251,7 +453,7 @@ public class MyLinkedList<T> implements MyList<T> {
     @Override
     public boolean exists(Object object) {
         MyNode<T> current = head;
-        while (current != null) {
+        for (int i = 0; i < size && current != null; i++) {
             if (current.data.equals(object)) return true;
             current = current.next;
         }
@@ -315,6 +517,8 @@ public class MyLinkedList<T> implements MyList<T> {
     public void clear() {
         head = tail = null;
         size = 0;
+        modCount++;
+        finger = null;
     }
 
     /**
@@ -337,6 +541,88 @@ public class MyLinkedList<T> implements MyList<T> {
         return new MyIterator();
     }
 
+    /**
+     * Performs the action for each element, in order, walking the node chain directly.
+     *
+     * @param action the action to perform
+     * @throws ConcurrentModificationException if the list is structurally changed during the loop
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (MyNode<T> current = head; current != null && modCount == expectedModCount; current = current.next) {
+            action.accept(current.data);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the action for each element at indices [from, to), in order.
+     * Walks to from once, from the nearest end or the finger, then follows the next links.
+     * The finger is not moved, so the loop never writes to the list.
+     *
+     * @param from   the first index (inclusive)
+     * @param to     the last index (exclusive)
+     * @param action the action to perform
+     * @throws IndexOutOfBoundsException       if the range is not inside the list
+     * @throws ConcurrentModificationException if the list is structurally changed during the loop
+     */
+    @Override
+    public void forEachRange(int from, int to, Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + ") out of bounds. Size: " + size);
+        }
+        if (from == to) {
+            return;
+        }
+        int expectedModCount = modCount;
+        MyNode<T> current = walk(from);
+        for (int i = from; i < to && modCount == expectedModCount; i++) {
+            action.accept(current.data);
+            current = current.next;
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the action for each element together with its index, in order.
+     * The index is passed as a plain int, so nothing is boxed.
+     *
+     * @param action the action to perform, receives the element and its index
+     * @throws ConcurrentModificationException if the list is structurally changed during the loop
+     */
+    @Override
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        int index = 0;
+        for (MyNode<T> current = head; current != null && modCount == expectedModCount; current = current.next) {
+            action.accept(current.data, index++);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a spliterator that splits off batches of elements.
+     * A linked list cannot be split in the middle without walking to it, so each trySplit
+     * copies the next batch of elements into an array (1024 more than the previous batch)
+     * and hands that array to another thread.
+     *
+     * @return a spliterator over the elements in the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator();
+    }
+
     // ========== Helper Methods and Inner Classes ==========
 
     /**
@@ -346,6 +632,111 @@ public class MyLinkedList<T> implements MyList<T> {
         return size == 0;
     }
 
+    /**
+     * Returns the node at the given index.
+     * Walks from whichever is closest: the head, the tail, or the finger (the node found last time).
+     * Afterwards the finger points at the returned node, so sequential and nearby
+     * index access costs O(1) per step.
+     * The finger is one immutable object, so threads reading the list at the same time
+     * can only lose an update of it, never pair a node with the index of another node.
+     *
+     * @param index a valid index
+     * @return the node at the index
+     */
+    private MyNode<T> node(int index) {
+        MyNode<T> current = walk(index);
+        Finger<T> cached = finger;
+        if (cached == null || cached.node != current) {
+            finger = new Finger<>(current, index);
+        }
+        return current;
+    }
+
+    /**
+     * Returns the node at the given index, starting from the head, the tail or the finger, without moving the finger.
+     *
+     * @param index a valid index
+     * @return the node at the index
+     */
+    private MyNode<T> walk(int index) {
+        MyNode<T> current = head;
+        int position = 0;
+        int distance = index;
+
+        if (size - 1 - index < distance) {
+            current = tail;
+            position = size - 1;
+            distance = size - 1 - index;
+        }
+        Finger<T> cached = finger;  // Read once, so the node and its index always belong together
+        if (cached != null && Math.abs(index - cached.index) < distance) {
+            current = cached.node;
+            position = cached.index;
+        }
+
+        while (position < index) {
+            current = current.next;
+            position++;
+        }
+        while (position > index) {
+            current = current.prev;
+            position--;
+        }
+        return current;
+    }
+
+    /**
+     * Moves the cached finger index after elements were added or removed at the front.
+     *
+     * @param delta the change of the finger node's index
+     */
+    private void shiftFinger(int delta) {
+        Finger<T> cached = finger;
+        if (cached != null) {
+            finger = new Finger<>(cached.node, cached.index + delta);
+        }
+    }
+
+    /**
+     * Links the items into a new chain of nodes and splices the chain into the list after the given node.
+     *
+     * @param before the node to insert after, or null to insert at the front
+     * @param items  the elements to insert, at least one
+     */
+    private void insertAfter(MyNode<T> before, Iterable<T> items) {
+        MyNode<T> first = null;
+        MyNode<T> last = null;
+        int count = 0;
+        for (T item : items) {
+            MyNode<T> node = new MyNode<>(item);
+            if (last == null) {
+                first = node;
+            } else {
+                node.prev = last;
+                last.next = node;
+            }
+            last = node;
+            count++;
+        }
+
+        MyNode<T> after = before == null ? head : before.next;
+        first.prev = before;
+        last.next = after;
+        if (before == null) {
+            head = first;
+        } else {
+            before.next = first;
+        }
+        if (after == null) {
+            tail = last;
+        } else {
+            after.prev = last;
+        }
+        size += count;
+        modCount++;
+        finger = null;  // Indices after the chain have moved
+    }
+
     /**
      * Throws exception if list is empty.
      */
@@ -366,6 +757,21 @@ public class MyLinkedList<T> implements MyList<T> {
         }
     }
 
+    /**
+     * A node reached by index, together with that index.
+     *
+     * @param <E> the type of the element
+     */
+    private static final class Finger<E> {
+        final MyNode<E> node;  // The node
+        final int index;       // Its index in the list
+
+        Finger(MyNode<E> node, int index) {
+            this.node = node;
+            this.index = index;
+        }
+    }
+
     /**
      * Iterator implementation for the list.
      */
@@ -384,4 +790,76 @@ public class MyLinkedList<T> implements MyList<T> {
             return data;
         }
     }
+
+    /**
+     * Spliterator that walks the nodes and splits off array batches.
+     * Binds to the head and size on first use.
+     */
+    private final class NodeSpliterator implements Spliterator<T> {
+        private MyNode<T> current;  // Next node to return
+        private int remaining = -1; // Number of elements left, -1 until bound
+        private int batch;          // Size of the last batch split off
+
+        private int getRemaining() {
+            if (remaining < 0) {
+                current = head;
+                remaining = size;
+            }
+            return remaining;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int left = getRemaining();
+            if (left <= 1 || current == null) {
+                return null;
+            }
+            int n = Math.min(Math.min(batch + BATCH_UNIT, left), MAX_BATCH);
+            Object[] items = new Object[n];
+            int taken = 0;
+            do {
+                items[taken++] = current.data;
+                current = current.next;
+            } while (taken < n && current != null);
+            batch = taken;
+            remaining = left - taken;
+            return Spliterators.spliterator(items, 0, taken, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (getRemaining() <= 0 || current == null) {
+                return false;
+            }
+            T data = current.data;
+            current = current.next;
+            remaining--;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int left = getRemaining();
+            MyNode<T> node = current;
+            current = null;
+            remaining = 0;
+            for (; left > 0 && node != null; left--) {
+                action.accept(node.data);
+                node = node.next;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+import interfaces.IMyLongQueue;
+import interfaces.MyLongList;
+
+/**
+ * MyLongQueue is a queue of primitive long values based on a MyLongList.
+ * It follows the First-In-First-Out (FIFO) principle without boxing any value.
+ */
+public class MyLongQueue implements IMyLongQueue {
+
+    // The underlying list used to store queue elements
+    private MyLongList list;
+
+    /**
+     * Constructs a new queue backed by a MyLongArrayList.
+     */
+    public MyLongQueue(){
+        this(new MyLongArrayList());
+    }
+
+    /**
+     * Constructs a new queue using the given list implementation.
+     *
+     * @param list the list implementation to use
+     */
+    public MyLongQueue(MyLongList list){
+        this.list = list;
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     *
+     * @return true if the queue contains no elements, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return list.size() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the queue.
+     *
+     * @return the size of the queue
+     */
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns the value at the front of the queue without removing it.
+     *
+     * @return the front value
+     * @throws IllegalStateException if the queue is empty
+     */
+    @Override
+    public long peekLong() {
+        return list.getFirstLong();
+    }
+
+    /**
+     * Adds a new value to the end of the queue.
+     *
+     * @param newItem the value to enqueue
+     * @return the enqueued value
+     */
+    @Override
+    public long enqueueLong(long newItem) {
+        list.addLastLong(newItem);
+        return newItem;
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue.
+     *
+     * @return the removed value
+     * @throws IllegalStateException if the queue is empty
+     */
+    @Override
+    public long dequeueLong() {
+        long removingItem = peekLong();   // Get the front value
+        list.removeFirst();                // Remove it from the list
+        return removingItem;
+    }
+}
@@ -0,0 +1,84 @@
+import interfaces.IMyLongStack;
+import interfaces.MyLongList;
+
+/**
+ * MyLongStack is a stack of primitive long values based on a MyLongList.
+ * It follows the Last-In-First-Out (LIFO) principle without boxing any value.
+ */
+public class MyLongStack implements IMyLongStack {
+
+    // The underlying list used to store stack elements
+    private MyLongList list;
+
+    /**
+     * Constructs a new stack backed by a MyLongArrayList.
+     */
+    public MyLongStack(){
+        this(new MyLongArrayList());
+    }
+
+    /**
+     * Constructs a new stack using the given list implementation.
+     *
+     * @param list the list implementation to use
+     */
+    public MyLongStack(MyLongList list){
+        this.list = list;
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return true if the stack contains no elements, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return list.size() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the stack.
+     *
+     * @return the size of the stack
+     */
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns the value at the top of the stack without removing it.
+     *
+     * @return the top value
+     * @throws IllegalStateException if the stack is empty
+     */
+    @Override
+    public long peekLong() {
+        return list.getLastLong();
+    }
+
+    /**
+     * Pushes a new value onto the top of the stack.
+     *
+     * @param newItem the value to push
+     * @return the pushed value
+     */
+    @Override
+    public long pushLong(long newItem) {
+        list.addLastLong(newItem);
+        return newItem;
+    }
+
+    /**
+     * Removes and returns the top value from the stack.
+     *
+     * @return the removed value
+     * @throws IllegalStateException if the stack is empty
+     */
+    @Override
+    public long popLong() {
+        long removingItem = peekLong();   // Get the top value
+        list.removeLast();               // Remove it from the list
+        return removingItem;
+    }
+}
@@ -1,10 +1,13 @@
 import interfaces.IMyMinHeap;
 import interfaces.MyList;
+import java.util.Arrays;
 import java.util.Comparator;
 
 /**
  * Min-Heap implementation using a custom list.
  * Stores elements in a binary heap structure using an array-like list.
+ * A heap can be built from existing elements in O(n) with Floyd's method:
+ * every inner node is sifted down, starting from the last one, instead of inserting elements one by one.
  *
  * @param <T> the type of elements stored in the heap, must be Comparable
  */
@@ -13,11 +16,43 @@ public class MyMinHeap<T extends Comparable<T>> implements IMyMinHeap<T> {
 
     /**
      * Constructs a MinHeap with the given list implementation.
+     * Elements already in the list are arranged into heap order in O(n).
      *
      * @param list the list to use as internal storage
      */
     public MyMinHeap(MyList<T> list){
         this.list = list;
+        if (list.size() > 1) {
+            buildHeap();
+        }
+    }
+
+    /**
+     * Builds a heap from the given elements in O(n), stored in a new MyArrayList.
+     *
+     * @param items the elements of the heap
+     * @return a heap containing the elements
+     */
+    public static <T extends Comparable<T>> MyMinHeap<T> fromArray(T[] items) {
+        MyList<T> list = new MyArrayList<>();
+        for (T item : items) {
+            list.addLast(item);
+        }
+        return new MyMinHeap<>(list);
+    }
+
+    /**
+     * Builds a heap from the given elements in O(n), stored in a new MyArrayList.
+     *
+     * @param items the elements of the heap
+     * @return a heap containing the elements
+     */
+    public static <T extends Comparable<T>> MyMinHeap<T> fromIterable(Iterable<? extends T> items) {
+        MyList<T> list = new MyArrayList<>();
+        for (T item : items) {
+            list.addLast(item);
+        }
+        return new MyMinHeap<>(list);
     }
 
     /**
@@ -52,6 +87,49 @@ public class MyMinHeap<T extends Comparable<T>> implements IMyMinHeap<T> {
         traverseUp(index);
     }
 
+    /**
+     * Inserts all given items into the heap.
+     * Small batches are sifted up one by one. When the batch is large compared with the heap,
+     * sifting up k items costs about k * log(n + k) comparisons, more than the 2 * (n + k)
+     * of a full rebuild, so the heap is rebuilt instead.
+     *
+     * @param items the items to insert
+     */
+    public void insertAll(Iterable<? extends T> items) {
+        int oldSize = list.size();
+        for (T item : items) {
+            list.addLast(item);
+        }
+        restoreAfterAppend(oldSize);
+    }
+
+    /**
+     * Inserts all given items into the heap, like insertAll(Iterable).
+     *
+     * @param items the items to insert
+     */
+    public void insertAll(T[] items) {
+        insertAll(Arrays.asList(items));
+    }
+
+    /**
+     * Replaces the minimum element with a new item and restores heap order with one sift-down.
+     * Cheaper than extractMin followed by insert.
+     *
+     * @param newItem the item to insert
+     * @return the removed minimum element
+     * @throws IllegalStateException if the heap is empty
+     */
+    public T replaceMin(T newItem) {
+        if (checkNull()) {
+            throw new IllegalStateException("Heap is empty.");
+        }
+        T min = list.get(0);
+        list.set(0, newItem);
+        heapify(0);
+        return min;
+    }
+
     /**
      * Returns the minimum element in the heap without removing it.
      *
@@ -79,6 +157,70 @@ public class MyMinHeap<T extends Comparable<T>> implements IMyMinHeap<T> {
         return min;
     }
 
+    /**
+     * Restores heap order after elements were appended behind the first oldSize ones.
+     * Either sifts every new element up or rebuilds the whole heap, whichever is cheaper.
+     *
+     * @param oldSize the number of elements that were already in heap order
+     */
+    private void restoreAfterAppend(int oldSize) {
+        int size = list.size();
+        int added = size - oldSize;
+        if (added == 0) {
+            return;
+        }
+        int depth = 31 - Integer.numberOfLeadingZeros(size);  // floor(log2(size))
+        if ((long) added * depth > 2L * size) {
+            buildHeap();
+        } else {
+            for (int i = oldSize; i < size; i++) {
+                traverseUp(i);
+            }
+        }
+    }
+
+    /**
+     * Arranges all elements of the list into heap order in O(n) (Floyd's method).
+     * Works on a copy in an array and writes the result back with addLast,
+     * so it costs O(n) for every list implementation.
+     */
+    private void buildHeap() {
+        Object[] items = list.toArray();
+        for (int i = (items.length >>> 1) - 1; i >= 0; i--) {
+            siftDown(items, i, items.length);
+        }
+        list.clear();
+        for (Object item : items) {
+            list.addLast((T) item);
+        }
+    }
+
+    /**
+     * Moves the element at index down inside an array heap until it is not greater than its children.
+     * Moves a hole instead of swapping, so each level costs one write.
+     *
+     * @param items the array heap
+     * @param index the index to sift down from
+     * @param size  the number of elements in the heap
+     */
+    private static <T extends Comparable<T>> void siftDown(Object[] items, int index, int size) {
+        T value = (T) items[index];
+        int half = size >>> 1;  // Nodes from here on have no children
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && ((T) items[right]).compareTo((T) items[child]) < 0) {
+                child = right;
+            }
+            if (value.compareTo((T) items[child]) <= 0) {
+                break;
+            }
+            items[index] = items[child];
+            index = child;
+        }
+        items[index] = value;
+    }
+
     /**
      * Restores the heap property going down from the given index.
      *
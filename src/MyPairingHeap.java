@@ -0,0 +1,176 @@
+import interfaces.IMyMinHeap;
+
+/**
+ * Min-heap that can be melded with another heap in O(1) (pairing heap).
+ * The heap is a tree of nodes, where each node keeps its children as a singly linked list.
+ * insert and meld only link two roots, and getMin reads the root.
+ * extractMin removes the root and pairs up its children (two-pass pairing),
+ * which costs O(log n) amortized.
+ * Both passes are loops, so even a very wide root does not grow the call stack.
+ *
+ * @param <T> the type of elements stored in the heap, must be Comparable
+ */
+public class MyPairingHeap<T extends Comparable<T>> implements IMyMinHeap<T> {
+    private Node<T> root;   // Root of the tree, holds the minimum
+    private int size;       // Number of elements in the heap
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return true if the heap contains no elements
+     */
+    @Override
+    public boolean empty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the current size of the heap
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Inserts a new item by linking it with the root in O(1).
+     *
+     * @param newItem the item to insert
+     * @throws IllegalArgumentException if the item is null
+     */
+    @Override
+    public void insert(T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException("Heap does not accept null elements.");
+        }
+        Node<T> node = new Node<>(newItem);
+        root = root == null ? node : link(root, node);
+        size++;
+    }
+
+    /**
+     * Returns the minimum element in the heap without removing it.
+     *
+     * @return the minimum element, or null if the heap is empty
+     */
+    @Override
+    public T getMin() {
+        return root == null ? null : root.item;
+    }
+
+    /**
+     * Extracts and removes the minimum element from the heap.
+     * The children of the root are paired into a new tree in O(log n) amortized.
+     *
+     * @return the minimum element, or null if the heap is empty
+     */
+    @Override
+    public T extractMin() {
+        if (root == null) {
+            return null;
+        }
+        T min = root.item;
+        root = combineSiblings(root.child);
+        size--;
+        return min;
+    }
+
+    /**
+     * Moves all elements of another heap into this heap in O(1).
+     * The other heap is empty afterwards.
+     *
+     * @param other the heap to merge into this one
+     * @throws IllegalArgumentException if other is this heap
+     */
+    public void meld(MyPairingHeap<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot meld a heap with itself.");
+        }
+        if (other.root == null) {
+            return;
+        }
+        root = root == null ? other.root : link(root, other.root);
+        size += other.size;
+        other.root = null;
+        other.size = 0;
+    }
+
+    /**
+     * Links two trees, making the root with the larger element the first child of the other.
+     *
+     * @param first  the root of the first tree, with no siblings
+     * @param second the root of the second tree, with no siblings
+     * @return the root of the linked tree
+     */
+    private Node<T> link(Node<T> first, Node<T> second) {
+        if (second.item.compareTo(first.item) < 0) {
+            Node<T> temp = first;
+            first = second;
+            second = temp;
+        }
+        second.next = first.child;
+        first.child = second;
+        return first;
+    }
+
+    /**
+     * Combines a list of sibling trees into one tree with two-pass pairing.
+     * The first pass links neighbours in pairs from left to right,
+     * the second pass links the pairs into one tree from right to left.
+     *
+     * @param first the first sibling, or null
+     * @return the root of the combined tree, or null if there were no siblings
+     */
+    private Node<T> combineSiblings(Node<T> first) {
+        if (first == null) {
+            return null;
+        }
+
+        // First pass: link pairs, chaining the results in reverse order through next
+        Node<T> pairs = null;
+        while (first != null) {
+            Node<T> a = first;
+            Node<T> b = a.next;
+            if (b == null) {
+                a.next = pairs;
+                pairs = a;
+                break;
+            }
+            first = b.next;
+            a.next = null;
+            b.next = null;
+            Node<T> linked = link(a, b);
+            linked.next = pairs;
+            pairs = linked;
+        }
+
+        // Second pass: fold the pairs into one tree, starting from the last pair
+        Node<T> result = pairs;
+        pairs = pairs.next;
+        result.next = null;
+        while (pairs != null) {
+            Node<T> node = pairs;
+            pairs = node.next;
+            node.next = null;
+            result = link(result, node);
+        }
+        return result;
+    }
+
+    /**
+     * A node of the heap.
+     *
+     * @param <E> the type of the element
+     */
+    private static final class Node<E> {
+        final E item;   // The element
+        Node<E> child;  // First child
+        Node<E> next;   // Next sibling
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel stable merge sort for a range of an Object array, run on a ForkJoinPool.
+ * The range is split in halves down to chunks of at most minGrain elements,
+ * chunks are sorted with MyTimSort and sorted halves are merged in parallel.
+ * Merges go back and forth between the array and one buffer of the same length,
+ * so every level costs a single pass. The result is the same as the sequential sort.
+ */
+class MyParallelSort {
+
+    /**
+     * Smallest grain size used when none is given: below this, forking costs more than it saves.
+     */
+    static final int DEFAULT_MIN_GRAIN = 1 << 13;
+
+    /**
+     * Sorts the range [lo, hi) of the array in parallel.
+     *
+     * @param a           the array to sort
+     * @param lo          the first index to sort (inclusive)
+     * @param hi          the last index to sort (exclusive)
+     * @param cmp         the comparator used to compare elements
+     * @param parallelism the number of worker threads to use
+     * @param minGrain    the largest chunk that is sorted or merged sequentially
+     * @throws IllegalArgumentException if parallelism or minGrain is less than 1
+     */
+    static <T> void sort(Object[] a, int lo, int hi, Comparator<? super T> cmp, int parallelism, int minGrain) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        if (minGrain < 1) {
+            throw new IllegalArgumentException("Grain size must be positive: " + minGrain);
+        }
+
+        int n = hi - lo;
+        if (n <= minGrain || parallelism == 1) {
+            MyTimSort.sort(a, lo, hi, cmp);
+            return;
+        }
+
+        Comparator<Object> c = (Comparator<Object>) cmp;
+        Object[] buffer = new Object[n];
+        Sorter task = new Sorter(a, buffer, lo, lo, hi, false, c, minGrain);
+
+        // Reuse the common pool when it already has the requested parallelism
+        if (parallelism == ForkJoinPool.getCommonPoolParallelism()) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(task);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Sorts a range and leaves the result either in the array or in the buffer.
+     * The buffer is indexed from 0, so array index i maps to buffer index i - base.
+     */
+    private static final class Sorter extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] a;            // Array being sorted
+        private final Object[] buffer;       // Scratch buffer of the same length as the range
+        private final int base;              // Array index that maps to buffer index 0
+        private final int lo;                // First array index of this range
+        private final int hi;                // End array index of this range (exclusive)
+        private final boolean intoBuffer;    // Whether the sorted result should end up in the buffer
+        private final Comparator<Object> cmp;
+        private final int grain;
+
+        Sorter(Object[] a, Object[] buffer, int base, int lo, int hi, boolean intoBuffer,
+               Comparator<Object> cmp, int grain) {
+            this.a = a;
+            this.buffer = buffer;
+            this.base = base;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoBuffer = intoBuffer;
+            this.cmp = cmp;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= grain) {
+                MyTimSort.sort(a, lo, hi, cmp);
+                if (intoBuffer) {
+                    System.arraycopy(a, lo, buffer, lo - base, hi - lo);
+                }
+                return;
+            }
+
+            // Sort both halves into the other array, then merge them into the target
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new Sorter(a, buffer, base, lo, mid, !intoBuffer, cmp, grain),
+                      new Sorter(a, buffer, base, mid, hi, !intoBuffer, cmp, grain));
+
+            if (intoBuffer) {
+                new Merger(a, buffer, lo, mid, mid, hi, lo - base, cmp, grain).compute();
+            } else {
+                new Merger(buffer, a, lo - base, mid - base, mid - base, hi - base, lo, cmp, grain).compute();
+            }
+        }
+    }
+
+    /**
+     * Merges two adjacent sorted runs of src into dst.
+     * Large merges are split around the middle element of the longer run,
+     * so both parts can be merged in parallel. Ties always go to the left run.
+     */
+    private static final class Merger extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] src;
+        private final Object[] dst;
+        private final int lo1;     // Start of the left run in src
+        private final int hi1;     // End of the left run in src (exclusive)
+        private final int lo2;     // Start of the right run in src
+        private final int hi2;     // End of the right run in src (exclusive)
+        private final int dstLo;   // Where the merged output starts in dst
+        private final Comparator<Object> cmp;
+        private final int grain;
+
+        Merger(Object[] src, Object[] dst, int lo1, int hi1, int lo2, int hi2, int dstLo,
+               Comparator<Object> cmp, int grain) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dstLo = dstLo;
+            this.cmp = cmp;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            int len1 = hi1 - lo1;
+            int len2 = hi2 - lo2;
+            if (len1 + len2 <= grain || len1 == 0 || len2 == 0) {
+                mergeSequential();
+                return;
+            }
+
+            int split1;
+            int split2;
+            if (len1 >= len2) {
+                // Left elements before the pivot, right elements strictly less than it
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = lowerBound(src, lo2, hi2, src[split1], cmp);
+            } else {
+                // Right elements before the pivot, left elements less than or equal to it
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = upperBound(src, lo1, hi1, src[split2], cmp);
+            }
+
+            // With one element per side the split may leave one part equal to this merge, which would never end
+            if ((split1 == lo1 && split2 == lo2) || (split1 == hi1 && split2 == hi2)) {
+                mergeSequential();
+                return;
+            }
+
+            int dstMid = dstLo + (split1 - lo1) + (split2 - lo2);
+            invokeAll(new Merger(src, dst, lo1, split1, lo2, split2, dstLo, cmp, grain),
+                      new Merger(src, dst, split1, hi1, split2, hi2, dstMid, cmp, grain));
+        }
+
+        /**
+         * Merges both runs with a single sequential pass.
+         */
+        private void mergeSequential() {
+            int i = lo1;
+            int j = lo2;
+            int k = dstLo;
+            while (i < hi1 && j < hi2) {
+                if (cmp.compare(src[j], src[i]) < 0) {
+                    dst[k++] = src[j++];
+                } else {
+                    dst[k++] = src[i++];
+                }
+            }
+            if (i < hi1) {
+                System.arraycopy(src, i, dst, k, hi1 - i);
+            } else if (j < hi2) {
+                System.arraycopy(src, j, dst, k, hi2 - j);
+            }
+        }
+    }
+
+    /**
+     * Returns the first index in the sorted range [lo, hi) whose element is not less than key.
+     */
+    private static int lowerBound(Object[] a, int lo, int hi, Object key, Comparator<Object> cmp) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cmp.compare(a[mid], key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the first index in the sorted range [lo, hi) whose element is greater than key.
+     */
+    private static int upperBound(Object[] a, int lo, int hi, Object key, Comparator<Object> cmp) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cmp.compare(a[mid], key) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,732 @@
+import interfaces.MyList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Immutable list that makes new versions by sharing structure with the old one (persistent vector).
+ * Elements live in the leaves of a 32-way bit-partitioned trie. The trie is addressed by
+ * position = origin + index, and every level uses 5 bits of the position.
+ * with, append and prepend copy only the nodes on one root-to-leaf path, in O(log32 n),
+ * and share every other node with the version they started from.
+ * prepend can grow the trie to the left: the old root becomes the last child of a new root
+ * and origin moves right, so adding at the front costs the same as adding at the back.
+ * concat keeps the larger vector and writes the smaller one into it a whole leaf at a time,
+ * with one path copy per 32 elements, reusing the smaller vector's leaves when they line up.
+ * When the smaller side is more than 1/32 of the larger one, rebuilding from one flat array
+ * is cheaper, so concat does that instead.
+ *
+ * A vector never changes after it is built, so any version can be read from any thread without copying or locking.
+ * The mutating MyList methods throw UnsupportedOperationException; use the methods that return a new version.
+ *
+ * @param <T> the type of elements in the list
+ */
+public final class MyPersistentVector<T> implements MyList<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;   // Children per node, elements per leaf
+    private static final int MASK = WIDTH - 1;
+    private static final MyPersistentVector<?> EMPTY = new MyPersistentVector<>(new Object[WIDTH], 0, 0, 0);
+
+    private final Object[] root;   // Root node; a leaf when shift is 0
+    private final int shift;       // Bits of the position used below the root, a multiple of 5
+    private final long origin;     // Trie position of list index 0
+    private final int size;        // Number of elements
+
+    private MyPersistentVector(Object[] root, int shift, long origin, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.origin = origin;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @return a vector with no elements
+     */
+    public static <T> MyPersistentVector<T> empty() {
+        return (MyPersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Builds a vector from the given elements in O(n), filling the leaves with array copies.
+     *
+     * @param items the elements of the vector
+     * @return a vector containing the elements in order
+     */
+    @SafeVarargs
+    public static <T> MyPersistentVector<T> of(T... items) {
+        return build(Arrays.copyOf(items, items.length, Object[].class));
+    }
+
+    /**
+     * Builds a vector holding a snapshot of the given list in O(n).
+     *
+     * @param list the list to copy
+     * @return a vector containing the elements of the list in order
+     */
+    public static <T> MyPersistentVector<T> from(MyList<T> list) {
+        if (list instanceof MyPersistentVector) {
+            return (MyPersistentVector<T>) list;
+        }
+        return build(list.toArray());
+    }
+
+    /**
+     * Returns a new version with the element at the given index replaced.
+     *
+     * @param index   index to update
+     * @param element new value
+     * @return the new version
+     */
+    public MyPersistentVector<T> with(int index, T element) {
+        checkIndex(index);
+        return new MyPersistentVector<>(assoc(root, shift, origin + index, element), shift, origin, size);
+    }
+
+    /**
+     * Returns a new version with the element added at the end.
+     *
+     * @param element element to add
+     * @return the new version
+     */
+    public MyPersistentVector<T> append(T element) {
+        long position = origin + size;
+        Object[] newRoot = root;
+        int newShift = shift;
+        if (position >= capacity(shift)) {
+            // The trie is full on the right: the old root becomes the first child of a new root
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newShift += BITS;
+        }
+        return new MyPersistentVector<>(assoc(newRoot, newShift, position, element), newShift, origin, size + 1);
+    }
+
+    /**
+     * Returns a new version with the element added at the front.
+     *
+     * @param element element to add
+     * @return the new version
+     */
+    public MyPersistentVector<T> prepend(T element) {
+        Object[] newRoot = root;
+        int newShift = shift;
+        long newOrigin = origin;
+        if (origin == 0) {
+            // The trie is full on the left: the old root becomes the last child of a new root
+            newRoot = new Object[WIDTH];
+            newRoot[MASK] = root;
+            newOrigin += MASK * capacity(shift);
+            newShift += BITS;
+        }
+        newOrigin--;
+        return new MyPersistentVector<>(assoc(newRoot, newShift, newOrigin, element), newShift, newOrigin, size + 1);
+    }
+
+    /**
+     * Returns a new version holding the elements of this vector followed by those of the other.
+     * The larger of the two is shared and the smaller one is written into it leaf by leaf,
+     * in O(m + m / 32 * log32 n) for a smaller side of m elements.
+     * If m is more than n / 32, the result is built from one flat array in O(n + m) instead.
+     *
+     * @param other the vector to put after this one
+     * @return the new version
+     */
+    public MyPersistentVector<T> concat(MyPersistentVector<T> other) {
+        if (other.size == 0) {
+            return this;
+        }
+        if (size == 0) {
+            return other;
+        }
+        if (Math.min(size, other.size) > Math.max(size, other.size) / WIDTH) {
+            Object[] items = new Object[size + other.size];
+            copyRange(0, items, 0, size);
+            other.copyRange(0, items, size, other.size);
+            return build(items);
+        }
+        if (other.size <= size) {
+            return appendAll(other);
+        }
+        return other.prependAll(this);
+    }
+
+    /**
+     * Returns the element at the given index in O(log32 n).
+     *
+     * @param index index to retrieve
+     * @return element at the index
+     */
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        long position = origin + index;
+        return (T) leafFor(position)[(int) (position & MASK)];
+    }
+
+    /**
+     * Returns the first element in the list.
+     *
+     * @return the first element
+     */
+    @Override
+    public T getFirst() {
+        checkEmpty();
+        return get(0);
+    }
+
+    /**
+     * Returns the last element in the list.
+     *
+     * @return the last element
+     */
+    @Override
+    public T getLast() {
+        checkEmpty();
+        return get(size - 1);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the object.
+     *
+     * @param object object to find
+     * @return index or -1 if not found
+     */
+    @Override
+    public int indexOf(Object object) {
+        long position = origin;
+        Object[] leaf = null;
+        for (int i = 0; i < size; i++, position++) {
+            if (leaf == null || (position & MASK) == 0) {
+                leaf = leafFor(position);
+            }
+            if (Objects.equals(leaf[(int) (position & MASK)], object)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the object.
+     *
+     * @param object object to find
+     * @return index or -1 if not found
+     */
+    @Override
+    public int lastIndexOf(Object object) {
+        long position = origin + size - 1;
+        Object[] leaf = null;
+        for (int i = size - 1; i >= 0; i--, position--) {
+            if (leaf == null || (position & MASK) == MASK) {
+                leaf = leafFor(position);
+            }
+            if (Objects.equals(leaf[(int) (position & MASK)], object)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the list contains the given object.
+     *
+     * @param object object to search
+     * @return true if exists, false otherwise
+     */
+    @Override
+    public boolean exists(Object object) {
+        return indexOf(object) != -1;
+    }
+
+    /**
+     * Returns the list as an array, copying whole leaves at a time.
+     *
+     * @return array of elements
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        copyRange(0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * Copies the elements in list order to the start of the given array.
+     *
+     * @param target the array to copy into
+     * @throws IndexOutOfBoundsException if the array is shorter than the list
+     */
+    @Override
+    public void copyInto(T[] target) {
+        if (target.length < size) {
+            throw new IndexOutOfBoundsException("Array length: " + target.length + " is less than size: " + size);
+        }
+        copyRange(0, target, 0, size);
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Performs the action for each element, in order, one leaf at a time.
+     *
+     * @param action the action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        forEachRange(0, size, action);
+    }
+
+    /**
+     * Performs the action for each element at indices [from, to), in order, one leaf at a time.
+     *
+     * @param from   the first index (inclusive)
+     * @param to     the last index (exclusive)
+     * @param action the action to perform
+     * @throws IndexOutOfBoundsException if the range is not inside the list
+     */
+    @Override
+    public void forEachRange(int from, int to, Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + ") out of bounds. Size: " + size);
+        }
+        long position = origin + from;
+        Object[] leaf = null;
+        for (int i = from; i < to; i++, position++) {
+            if (leaf == null || (position & MASK) == 0) {
+                leaf = leafFor(position);
+            }
+            action.accept((T) leaf[(int) (position & MASK)]);
+        }
+    }
+
+    /**
+     * Performs the action for each element together with its index, in order.
+     *
+     * @param action the action to perform, receives the element and its index
+     */
+    @Override
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action);
+        long position = origin;
+        Object[] leaf = null;
+        for (int i = 0; i < size; i++, position++) {
+            if (leaf == null || (position & MASK) == 0) {
+                leaf = leafFor(position);
+            }
+            action.accept((T) leaf[(int) (position & MASK)], i);
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements in the list.
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new MyIterator();
+    }
+
+    /**
+     * Returns a spliterator that splits the index range in halves.
+     *
+     * @return a spliterator over the elements in the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new VectorSpliterator(0, size);
+    }
+
+    // ========== Mutators of MyList, not supported ==========
+
+    @Override
+    public void add(T element) {
+        throw unsupported();
+    }
+
+    @Override
+    public void set(int index, T element) {
+        throw unsupported();
+    }
+
+    @Override
+    public void add(int index, T element) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addFirst(T element) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addLast(T element) {
+        throw unsupported();
+    }
+
+    @Override
+    public void remove(int index) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeLast() {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeFirst() {
+        throw unsupported();
+    }
+
+    @Override
+    public void sort(Comparator<T> cmp) {
+        throw unsupported();
+    }
+
+    @Override
+    public void clear() {
+        throw unsupported();
+    }
+
+    @Override
+    public void addAll(MyList<T> other) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addAll(int index, T[] items) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw unsupported();
+    }
+
+    // ========== Helper Methods and Inner Classes ==========
+
+    /**
+     * Builds a vector over the given array, which must not be used afterwards.
+     * Cuts the array into leaves and groups every 32 nodes of a level under a parent.
+     *
+     * @param items the elements
+     * @return the new vector
+     */
+    private static <T> MyPersistentVector<T> build(Object[] items) {
+        if (items.length == 0) {
+            return empty();
+        }
+        int count = (items.length + MASK) >>> BITS;
+        Object[] level = new Object[count];
+        for (int i = 0; i < count; i++) {
+            level[i] = Arrays.copyOfRange(items, i << BITS, (i + 1) << BITS);
+        }
+        int shift = 0;
+        while (count > 1) {
+            int parents = (count + MASK) >>> BITS;
+            Object[] upper = new Object[parents];
+            for (int i = 0; i < parents; i++) {
+                upper[i] = Arrays.copyOfRange(level, i << BITS, (i + 1) << BITS);
+            }
+            level = upper;
+            count = parents;
+            shift += BITS;
+        }
+        return new MyPersistentVector<>((Object[]) level[0], shift, 0, items.length);
+    }
+
+    /**
+     * Returns a copy of the path to position with the value stored at its end.
+     * Nodes missing on the path are created; all other nodes are shared.
+     *
+     * @param node     the node to copy, or null if it does not exist yet
+     * @param shift    the shift of the node's level
+     * @param position the trie position to write
+     * @param value    the value to store
+     * @return the copied node
+     */
+    private static Object[] assoc(Object[] node, int shift, long position, Object value) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        int child = (int) ((position >>> shift) & MASK);
+        if (shift == 0) {
+            copy[child] = value;
+        } else {
+            copy[child] = assoc((Object[]) copy[child], shift - BITS, position, value);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the path to position with the given leaf stored at its end.
+     * Nodes missing on the path are created; all other nodes are shared.
+     *
+     * @param node     the node to copy, or null if it does not exist yet
+     * @param shift    the shift of the node's level
+     * @param position a trie position inside the leaf
+     * @param leaf     the leaf to store
+     * @return the copied node, or the leaf itself if shift is 0
+     */
+    private static Object[] assocLeaf(Object[] node, int shift, long position, Object[] leaf) {
+        if (shift == 0) {
+            return leaf;
+        }
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        int child = (int) ((position >>> shift) & MASK);
+        copy[child] = assocLeaf((Object[]) copy[child], shift - BITS, position, leaf);
+        return copy;
+    }
+
+    /**
+     * Returns the leaf holding the given trie position.
+     *
+     * @param position a position of an element
+     * @return the leaf array
+     */
+    private Object[] leafFor(long position) {
+        return leafOrNull(root, shift, position);
+    }
+
+    /**
+     * Returns the leaf of a trie that covers the given position.
+     *
+     * @param node     the root of the trie
+     * @param shift    the shift of the root's level
+     * @param position a trie position
+     * @return the leaf array, or null if the trie has no leaf there yet
+     */
+    private static Object[] leafOrNull(Object[] node, int shift, long position) {
+        for (int level = shift; level > 0 && node != null; level -= BITS) {
+            node = (Object[]) node[(int) ((position >>> level) & MASK)];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a new version with the elements of source added at the end.
+     * Grows the trie to the right first, then writes source leaf by leaf.
+     *
+     * @param source the vector to add
+     * @return the new version
+     */
+    private MyPersistentVector<T> appendAll(MyPersistentVector<T> source) {
+        Object[] newRoot = root;
+        int newShift = shift;
+        long end = origin + size;
+        while (end + source.size > capacity(newShift)) {
+            Object[] grown = new Object[WIDTH];
+            grown[0] = newRoot;
+            newRoot = grown;
+            newShift += BITS;
+        }
+        newRoot = writeAll(newRoot, newShift, end, source);
+        return new MyPersistentVector<>(newRoot, newShift, origin, size + source.size);
+    }
+
+    /**
+     * Returns a new version with the elements of source added at the front.
+     * Grows the trie to the left first, then writes source leaf by leaf.
+     *
+     * @param source the vector to add
+     * @return the new version
+     */
+    private MyPersistentVector<T> prependAll(MyPersistentVector<T> source) {
+        Object[] newRoot = root;
+        int newShift = shift;
+        long newOrigin = origin;
+        while (newOrigin < source.size) {
+            Object[] grown = new Object[WIDTH];
+            grown[MASK] = newRoot;
+            newRoot = grown;
+            newOrigin += MASK * capacity(newShift);
+            newShift += BITS;
+        }
+        newOrigin -= source.size;
+        newRoot = writeAll(newRoot, newShift, newOrigin, source);
+        return new MyPersistentVector<>(newRoot, newShift, newOrigin, size + source.size);
+    }
+
+    /**
+     * Writes all elements of source to the trie positions from start on, one leaf per step.
+     * A full leaf of source that lines up with the target leaf is shared instead of copied;
+     * otherwise the target leaf is copied, or created, and filled with arraycopy.
+     *
+     * @param root   the root of the trie, large enough for the written positions
+     * @param shift  the shift of the root's level
+     * @param start  the trie position of the first written element
+     * @param source the vector whose elements are written
+     * @return the new root
+     */
+    private static Object[] writeAll(Object[] root, int shift, long start, MyPersistentVector<?> source) {
+        long position = start;
+        int written = 0;
+        while (written < source.size) {
+            int offset = (int) (position & MASK);
+            int chunk = Math.min(WIDTH - offset, source.size - written);
+            long sourcePosition = source.origin + written;
+            Object[] leaf;
+            if (chunk == WIDTH && (sourcePosition & MASK) == 0) {
+                leaf = source.leafFor(sourcePosition);
+            } else {
+                Object[] existing = leafOrNull(root, shift, position);
+                leaf = existing == null ? new Object[WIDTH] : existing.clone();
+                source.copyRange(written, leaf, offset, chunk);
+            }
+            root = assocLeaf(root, shift, position, leaf);
+            written += chunk;
+            position += chunk;
+        }
+        return root;
+    }
+
+    /**
+     * Copies elements in list order to an array, one leaf part at a time.
+     *
+     * @param from      the list index of the first element to copy
+     * @param target    the array to copy into
+     * @param targetPos the first index to write in the target
+     * @param length    the number of elements to copy
+     */
+    private void copyRange(int from, Object[] target, int targetPos, int length) {
+        long position = origin + from;
+        int copied = 0;
+        while (copied < length) {
+            int offset = (int) (position & MASK);
+            int chunk = Math.min(WIDTH - offset, length - copied);
+            System.arraycopy(leafFor(position), offset, target, targetPos + copied, chunk);
+            copied += chunk;
+            position += chunk;
+        }
+    }
+
+    /**
+     * Returns the number of positions a trie with the given root shift can address.
+     */
+    private static long capacity(int shift) {
+        return 1L << (shift + BITS);
+    }
+
+    private UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("MyPersistentVector is immutable, use with, append, prepend or concat.");
+    }
+
+    /**
+     * Throws exception if list is empty.
+     */
+    private void checkEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("List is empty.");
+        }
+    }
+
+    /**
+     * Validates the index.
+     *
+     * @param index index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + " out of bounds. Size: " + size);
+        }
+    }
+
+    /**
+     * Iterator that looks up a leaf once per 32 elements.
+     */
+    private class MyIterator implements Iterator<T> {
+        private int cursor = 0;
+        private long position = origin;
+        private Object[] leaf;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            if (leaf == null || (position & MASK) == 0) {
+                leaf = leafFor(position);
+            }
+            cursor++;
+            return (T) leaf[(int) (position++ & MASK)];
+        }
+    }
+
+    /**
+     * Spliterator over a range of list indices; the vector never changes, so no binding is needed.
+     */
+    private final class VectorSpliterator implements Spliterator<T> {
+        private int index;        // Next list index to return
+        private final int fence;  // One past the last list index
+
+        VectorSpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new VectorSpliterator(lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(get(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            int from = index;
+            index = fence;
+            forEachRange(from, fence, action);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+import java.util.Arrays;
+
+/**
+ * Hash index from an element to the positions where it is stored, used by MyArrayList in indexed mode.
+ * Open addressing with linear probing. Every key keeps its positions in a sorted int array,
+ * so the first and last position of an element are read in O(1) expected time.
+ * Positions are plain ints chosen by the list; they only need to keep the list order.
+ * Null elements are stored under a private placeholder key.
+ */
+class MyPositionIndex {
+    static final int NONE = Integer.MIN_VALUE;  // Returned by first and last when the key is absent
+    private static final Object NULL_KEY = new Object();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] keys;        // Keys by slot, null marks a free slot
+    private int[][] positions;    // Sorted positions of each key, first counts[slot] entries are used
+    private int[] counts;         // Number of positions of each key
+    private int used;             // Number of occupied slots
+
+    MyPositionIndex() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty index sized for the given number of distinct keys.
+     *
+     * @param expectedKeys the expected number of distinct keys
+     */
+    MyPositionIndex(int expectedKeys) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity * 2 < expectedKeys * 3) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Adds a position for a key.
+     *
+     * @param key      the element
+     * @param position the position of the element
+     */
+    void add(Object key, int position) {
+        key = maskNull(key);
+        int slot = find(key);
+        if (slot < 0) {
+            if (3 * (used + 1) > 2 * keys.length) {
+                resize(keys.length * 2);
+            }
+            slot = ~find(key);
+            keys[slot] = key;
+            positions[slot] = new int[]{position};
+            counts[slot] = 1;
+            used++;
+            return;
+        }
+
+        int[] list = positions[slot];
+        int count = counts[slot];
+        int insertAt = count > 0 && list[count - 1] < position ? count : ~Arrays.binarySearch(list, 0, count, position);
+        if (count == list.length) {
+            list = positions[slot] = Arrays.copyOf(list, count * 2);
+        }
+        System.arraycopy(list, insertAt, list, insertAt + 1, count - insertAt);
+        list[insertAt] = position;
+        counts[slot] = count + 1;
+    }
+
+    /**
+     * Removes a position of a key. Does nothing if the key does not have that position.
+     *
+     * @param key      the element
+     * @param position the position to remove
+     */
+    void remove(Object key, int position) {
+        int slot = find(maskNull(key));
+        if (slot < 0) {
+            return;
+        }
+        int[] list = positions[slot];
+        int count = counts[slot];
+        int at = Arrays.binarySearch(list, 0, count, position);
+        if (at < 0) {
+            return;
+        }
+        if (count == 1) {
+            deleteSlot(slot);
+            return;
+        }
+        System.arraycopy(list, at + 1, list, at, count - at - 1);
+        counts[slot] = count - 1;
+    }
+
+    /**
+     * Changes one position of a key. The new position must keep the order of the key's positions.
+     *
+     * @param key  the element
+     * @param from the current position
+     * @param to   the new position
+     */
+    void move(Object key, int from, int to) {
+        int slot = find(maskNull(key));
+        if (slot < 0) {
+            return;
+        }
+        int at = Arrays.binarySearch(positions[slot], 0, counts[slot], from);
+        if (at >= 0) {
+            positions[slot][at] = to;
+        }
+    }
+
+    /**
+     * Returns the smallest position of a key.
+     *
+     * @param key the element
+     * @return the smallest position, or NONE if the key is absent
+     */
+    int first(Object key) {
+        int slot = find(maskNull(key));
+        return slot < 0 ? NONE : positions[slot][0];
+    }
+
+    /**
+     * Returns the largest position of a key.
+     *
+     * @param key the element
+     * @return the largest position, or NONE if the key is absent
+     */
+    int last(Object key) {
+        int slot = find(maskNull(key));
+        return slot < 0 ? NONE : positions[slot][counts[slot] - 1];
+    }
+
+    /**
+     * Removes all keys and shrinks the table back to its initial size.
+     */
+    void clear() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Estimates the memory used by the index in bytes.
+     * Assumes 16-byte array headers and 4-byte compressed references.
+     *
+     * @return the estimated size in bytes
+     */
+    long footprint() {
+        long bytes = 3 * (16 + 4L * keys.length);
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                bytes += (16 + 4L * positions[slot].length + 7) & ~7L;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Finds the slot of a key.
+     *
+     * @param key the masked key
+     * @return the slot holding the key, or the bitwise complement of the free slot where it would go
+     */
+    private int find(Object key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (true) {
+            Object current = keys[slot];
+            if (current == null) {
+                return ~slot;
+            }
+            if (current == key || current.equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Frees a slot and moves later keys of the same probe run back into the gap,
+     * so lookups never stop early at a free slot (backward-shift deletion).
+     *
+     * @param slot the slot to free
+     */
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != null) {
+            int home = hash(keys[next]) & mask;
+            // Move the key if its home slot is not between the gap and its current slot
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                positions[gap] = positions[next];
+                counts[gap] = counts[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = null;
+        positions[gap] = null;
+        counts[gap] = 0;
+        used--;
+    }
+
+    /**
+     * Rehashes all keys into a table of the given capacity.
+     *
+     * @param capacity the new number of slots, a power of two
+     */
+    private void resize(int capacity) {
+        Object[] oldKeys = keys;
+        int[][] oldPositions = positions;
+        int[] oldCounts = counts;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key == null) {
+                continue;
+            }
+            int slot = hash(key) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            positions[slot] = oldPositions[i];
+            counts[slot] = oldCounts[i];
+            used++;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        positions = new int[capacity][];
+        counts = new int[capacity];
+        used = 0;
+    }
+
+    /**
+     * Spreads the bits of the hash code, so keys with similar hash codes land far apart.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+}
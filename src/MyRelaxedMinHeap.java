@@ -0,0 +1,197 @@
+import interfaces.IMyMinHeap;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent relaxed min-heap for many threads (MultiQueue).
+ * Elements are spread over several shards, each an ordinary MyMinHeap behind its own lock.
+ * insert puts the element into a random shard whose lock is free.
+ * extractMin looks at the published minimum of two random shards and takes from the smaller one,
+ * so threads rarely meet on the same lock and throughput grows with the number of threads.
+ *
+ * The price is relaxed ordering: extractMin returns an element close to the minimum, not always
+ * the minimum itself. With k shards the expected rank of the returned element (0 = the true minimum)
+ * is O(k), and ranks much larger than k are exponentially unlikely.
+ * Use MyConcurrentMinHeap when exact ordering is needed.
+ *
+ * size, empty and getMin are approximate while other threads are changing the heap.
+ *
+ * @param <T> the type of elements stored in the heap, must be Comparable
+ */
+public class MyRelaxedMinHeap<T extends Comparable<T>> implements IMyMinHeap<T> {
+    private final Shard<T>[] shards;
+    private final LongAdder count = new LongAdder();  // Approximate number of elements
+
+    /**
+     * Constructs a heap with two shards per available processor.
+     */
+    public MyRelaxedMinHeap() {
+        this(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a heap with the given number of shards.
+     * More shards mean less contention but a larger rank error.
+     *
+     * @param shardCount the number of shards
+     * @throws IllegalArgumentException if shardCount is less than 1
+     */
+    public MyRelaxedMinHeap(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        @SuppressWarnings("unchecked")  // The array only ever holds shards of this heap
+        Shard<T>[] created = (Shard<T>[]) new Shard<?>[shardCount];
+        shards = created;
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard<>();
+        }
+    }
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return true if the heap contains no elements
+     */
+    @Override
+    public boolean empty() {
+        for (Shard<T> shard : shards) {
+            if (shard.min != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     * Approximate while other threads are changing the heap.
+     *
+     * @return the current size of the heap
+     */
+    @Override
+    public int size() {
+        long current = count.sum();
+        return current < 0 ? 0 : (int) Math.min(current, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the smallest of the published shard minimums without removing it.
+     *
+     * @return the minimum element, or null if the heap is empty
+     */
+    @Override
+    public T getMin() {
+        T min = null;
+        for (Shard<T> shard : shards) {
+            T candidate = shard.min;
+            if (candidate != null && (min == null || candidate.compareTo(min) < 0)) {
+                min = candidate;
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Extracts and removes an element close to the minimum.
+     *
+     * @return an element of small rank, or null if the heap is empty
+     */
+    @Override
+    public T extractMin() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int misses = 0;
+        while (misses < shards.length) {
+            Shard<T> first = shards[random.nextInt(shards.length)];
+            Shard<T> second = shards[random.nextInt(shards.length)];
+            T firstMin = first.min;
+            T secondMin = second.min;
+            if (firstMin == null && secondMin == null) {
+                misses++;
+                continue;
+            }
+
+            // Two-choice: take from the shard with the smaller published minimum
+            Shard<T> chosen = secondMin == null || (firstMin != null && firstMin.compareTo(secondMin) <= 0)
+                    ? first : second;
+            if (chosen.lock.tryLock()) {
+                try {
+                    if (!chosen.heap.empty()) {
+                        return chosen.extract(count);
+                    }
+                } finally {
+                    chosen.lock.unlock();
+                }
+            }
+        }
+
+        // Random probes kept hitting empty shards, check every shard before reporting empty
+        for (Shard<T> shard : shards) {
+            if (shard.min == null) {
+                continue;
+            }
+            shard.lock.lock();
+            try {
+                if (!shard.heap.empty()) {
+                    return shard.extract(count);
+                }
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Inserts a new item into a random shard whose lock is free.
+     *
+     * @param newItem the item to insert
+     * @throws IllegalArgumentException if the item is null
+     */
+    @Override
+    public void insert(T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException("Heap does not accept null elements.");
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            Shard<T> shard = shards[random.nextInt(shards.length)];
+            if (shard.lock.tryLock()) {
+                try {
+                    shard.heap.insert(newItem);
+                    shard.min = shard.heap.getMin();
+                } finally {
+                    shard.lock.unlock();
+                }
+                count.increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * One shard: a sequential heap, its lock and its published minimum.
+     *
+     * @param <E> the type of elements stored in the shard
+     */
+    private static final class Shard<E extends Comparable<E>> {
+        final ReentrantLock lock = new ReentrantLock();
+        final MyMinHeap<E> heap = new MyMinHeap<>(new MyArrayList<E>());
+        volatile E min;     // Minimum of the heap, read without the lock by extractMin
+
+        /**
+         * Removes the minimum of this shard. Must be called with the lock held.
+         *
+         * @param count the element counter of the whole heap
+         * @return the removed element
+         */
+        E extract(LongAdder count) {
+            E removed = heap.extractMin();
+            min = heap.empty() ? null : heap.getMin();
+            count.decrement();
+            return removed;
+        }
+    }
+}
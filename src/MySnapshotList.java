@@ -0,0 +1,632 @@
+import interfaces.MyList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * List for data that is read very often and changed rarely, such as configuration or routing tables
+ * (copy-on-write with snapshot isolation).
+ * The contents are an immutable snapshot, published through a volatile field.
+ * A reader reads that field once per call and never takes a lock or copies anything.
+ * An iterator, forEach or stream works on the snapshot that was current when it started,
+ * so it never sees a half-applied change.
+ *
+ * Writers are serialized by a lock. update copies the current contents once into a private MyArrayList,
+ * runs a whole batch of changes on it and publishes its backing array as the new snapshot,
+ * so a batch costs one copy however many writes it holds.
+ * The single-element mutators of MyList each commit on their own, so prefer update for several changes.
+ * Every commit gets the next version number, which readers can use to notice changes.
+ *
+ * @param <T> the type of elements in the list
+ */
+public class MySnapshotList<T> implements MyList<T> {
+    private final ReentrantLock writeLock = new ReentrantLock();  // Serializes commits
+    private volatile Snapshot<T> current;                         // The published contents
+
+    /**
+     * Constructs an empty list.
+     */
+    public MySnapshotList() {
+        current = new Snapshot<>(new Object[0], 0, 0);
+    }
+
+    /**
+     * Constructs a list holding a copy of the given list.
+     *
+     * @param initial the elements to start with
+     */
+    public MySnapshotList(MyList<T> initial) {
+        Object[] items = initial.toArray();
+        current = new Snapshot<>(items, items.length, 0);
+    }
+
+    /**
+     * Returns the current contents as an immutable list, without copying.
+     * Later commits do not change the returned list.
+     *
+     * @return the current snapshot
+     */
+    public MyList<T> snapshot() {
+        return current;
+    }
+
+    /**
+     * Returns the version of the current snapshot, which grows by one with every commit.
+     *
+     * @return the current version
+     */
+    public long version() {
+        return current.version;
+    }
+
+    /**
+     * Applies a batch of changes and publishes the result as one new snapshot.
+     * The changes run on a private copy of the current contents, which is only valid during the call.
+     * The copy's backing array becomes the new snapshot as it is, so the batch costs one copy.
+     * If the changes throw, nothing is published.
+     *
+     * @param changes the changes to apply
+     * @return the new snapshot
+     */
+    public MyList<T> update(Consumer<? super MyArrayList<T>> changes) {
+        writeLock.lock();
+        try {
+            Snapshot<T> base = current;
+            MyArrayList<T> working = new MyArrayList<>(0);
+            working.attachArray(Arrays.copyOf(base.items, base.size + (base.size >>> 3) + 1), base.size);
+            changes.accept(working);
+            int size = working.size();
+            return publish(working.detachArray(), size);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ========== Writes, each one a commit ==========
+
+    /**
+     * Adds an element to the end of the list with one array copy.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Replaces the element at the given index with one array copy.
+     *
+     * @param index   index to update
+     * @param element new value
+     */
+    @Override
+    public void set(int index, T element) {
+        writeLock.lock();
+        try {
+            Snapshot<T> base = current;
+            if (index < 0 || index >= base.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + " out of bounds. Size: " + base.size);
+            }
+            Object[] copy = Arrays.copyOf(base.items, base.size);
+            copy[index] = element;
+            publish(copy, base.size);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Inserts an element at the specified index, as a commit of its own.
+     *
+     * @param index   the position to insert at
+     * @param element the element to insert
+     */
+    @Override
+    public void add(int index, T element) {
+        update(list -> list.add(index, element));
+    }
+
+    /**
+     * Adds an element at the beginning of the list, as a commit of its own.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void addFirst(T element) {
+        update(list -> list.addFirst(element));
+    }
+
+    /**
+     * Adds an element to the end of the list with one array copy.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void addLast(T element) {
+        writeLock.lock();
+        try {
+            Snapshot<T> base = current;
+            Object[] copy = Arrays.copyOf(base.items, base.size + 1);
+            copy[base.size] = element;
+            publish(copy, base.size + 1);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the specified index, as a commit of its own.
+     *
+     * @param index index to remove
+     */
+    @Override
+    public void remove(int index) {
+        update(list -> list.remove(index));
+    }
+
+    /**
+     * Removes the last element in the list, as a commit of its own.
+     */
+    @Override
+    public void removeLast() {
+        update(MyArrayList::removeLast);
+    }
+
+    /**
+     * Removes the first element in the list, as a commit of its own.
+     */
+    @Override
+    public void removeFirst() {
+        update(MyArrayList::removeFirst);
+    }
+
+    /**
+     * Sorts the list with the given comparator, as a commit of its own.
+     *
+     * @param cmp comparator for sorting
+     */
+    @Override
+    public void sort(Comparator<T> cmp) {
+        update(list -> list.sort(cmp));
+    }
+
+    /**
+     * Removes all elements by publishing an empty snapshot.
+     */
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            publish(new Object[0], 0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds all elements of another list to the end of this list, as a commit of its own.
+     *
+     * @param other the list whose elements are added
+     */
+    @Override
+    public void addAll(MyList<T> other) {
+        update(list -> list.addAll(other));
+    }
+
+    /**
+     * Inserts the items at the given index, as a commit of its own.
+     *
+     * @param index the position to insert at
+     * @param items the elements to insert
+     */
+    @Override
+    public void addAll(int index, T[] items) {
+        update(list -> list.addAll(index, items));
+    }
+
+    /**
+     * Removes the elements at indices [from, to), as a commit of its own.
+     *
+     * @param from the first index to remove (inclusive)
+     * @param to   the last index to remove (exclusive)
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        update(list -> list.removeRange(from, to));
+    }
+
+    /**
+     * Removes all elements that match the filter, as a commit of its own.
+     *
+     * @param filter the condition for removing an element
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean[] removed = new boolean[1];
+        update(list -> removed[0] = list.removeIf(filter));
+        return removed[0];
+    }
+
+    // ========== Reads, on the current snapshot ==========
+
+    /**
+     * Returns the element at the given index in the current snapshot.
+     *
+     * @param index index to retrieve
+     * @return element at the index
+     */
+    @Override
+    public T get(int index) {
+        return current.get(index);
+    }
+
+    /**
+     * Returns the first element in the current snapshot.
+     *
+     * @return the first element
+     */
+    @Override
+    public T getFirst() {
+        return current.getFirst();
+    }
+
+    /**
+     * Returns the last element in the current snapshot.
+     *
+     * @return the last element
+     */
+    @Override
+    public T getLast() {
+        return current.getLast();
+    }
+
+    /**
+     * Returns the index of the first occurrence of the object in the current snapshot.
+     *
+     * @param object object to find
+     * @return index or -1 if not found
+     */
+    @Override
+    public int indexOf(Object object) {
+        return current.indexOf(object);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the object in the current snapshot.
+     *
+     * @param object object to find
+     * @return index or -1 if not found
+     */
+    @Override
+    public int lastIndexOf(Object object) {
+        return current.lastIndexOf(object);
+    }
+
+    /**
+     * Checks if the current snapshot contains the given object.
+     *
+     * @param object object to search
+     * @return true if exists, false otherwise
+     */
+    @Override
+    public boolean exists(Object object) {
+        return current.exists(object);
+    }
+
+    /**
+     * Returns the current snapshot as a new array.
+     *
+     * @return array of elements
+     */
+    @Override
+    public Object[] toArray() {
+        return current.toArray();
+    }
+
+    /**
+     * Returns the number of elements in the current snapshot.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return current.size();
+    }
+
+    /**
+     * Copies the current snapshot in list order to the start of the given array.
+     *
+     * @param target the array to copy into
+     */
+    @Override
+    public void copyInto(T[] target) {
+        current.copyInto(target);
+    }
+
+    /**
+     * Performs the action for each element of the current snapshot, in order.
+     *
+     * @param action the action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        current.forEach(action);
+    }
+
+    /**
+     * Performs the action for each element at indices [from, to) of the current snapshot, in order.
+     *
+     * @param from   the first index (inclusive)
+     * @param to     the last index (exclusive)
+     * @param action the action to perform
+     */
+    @Override
+    public void forEachRange(int from, int to, Consumer<? super T> action) {
+        current.forEachRange(from, to, action);
+    }
+
+    /**
+     * Performs the action for each element of the current snapshot together with its index, in order.
+     *
+     * @param action the action to perform, receives the element and its index
+     */
+    @Override
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        current.forEachIndexed(action);
+    }
+
+    /**
+     * Returns an iterator over the current snapshot; later commits do not affect it.
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return current.iterator();
+    }
+
+    /**
+     * Returns a spliterator over the current snapshot; later commits do not affect it.
+     *
+     * @return a spliterator over the elements in the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return current.spliterator();
+    }
+
+    // ========== Helper Methods and Inner Classes ==========
+
+    /**
+     * Publishes a new snapshot; the caller must hold the write lock.
+     *
+     * @param items the new contents at [0, size), not used by anyone else
+     * @param size  the number of elements
+     * @return the new snapshot
+     */
+    private Snapshot<T> publish(Object[] items, int size) {
+        Snapshot<T> next = new Snapshot<>(items, size, current.version + 1);
+        current = next;
+        return next;
+    }
+
+    /**
+     * Immutable list over an array that is never written after construction.
+     *
+     * @param <E> the type of elements
+     */
+    private static final class Snapshot<E> implements MyList<E> {
+        final Object[] items;  // The elements at [0, size), the rest is unused
+        final int size;        // Number of elements
+        final long version;    // Number of commits before this snapshot
+
+        Snapshot(Object[] items, int size, long version) {
+            this.items = items;
+            this.size = size;
+            this.version = version;
+        }
+
+        @Override
+        public E get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + " out of bounds. Size: " + size);
+            }
+            return (E) items[index];
+        }
+
+        @Override
+        public E getFirst() {
+            checkEmpty();
+            return (E) items[0];
+        }
+
+        @Override
+        public E getLast() {
+            checkEmpty();
+            return (E) items[size - 1];
+        }
+
+        @Override
+        public int indexOf(Object object) {
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(items[i], object)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object object) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (Objects.equals(items[i], object)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean exists(Object object) {
+            return indexOf(object) != -1;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void copyInto(E[] target) {
+            if (target.length < size) {
+                throw new IndexOutOfBoundsException("Array length: " + target.length + " is less than size: " + size);
+            }
+            System.arraycopy(items, 0, target, 0, size);
+        }
+
+        @Override
+        public void forEach(Consumer<? super E> action) {
+            forEachRange(0, size, action);
+        }
+
+        @Override
+        public void forEachRange(int from, int to, Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if (from < 0 || to > size || from > to) {
+                throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + ") out of bounds. Size: " + size);
+            }
+            for (int i = from; i < to; i++) {
+                action.accept((E) items[i]);
+            }
+        }
+
+        @Override
+        public void forEachIndexed(ObjIntConsumer<? super E> action) {
+            Objects.requireNonNull(action);
+            for (int i = 0; i < size; i++) {
+                action.accept((E) items[i], i);
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int cursor = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < size;
+                }
+
+                @Override
+                public E next() {
+                    if (cursor >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return (E) items[cursor++];
+                }
+            };
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            return Spliterators.spliterator(items, 0, size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        private void checkEmpty() {
+            if (size == 0) {
+                throw new IllegalStateException("List is empty.");
+            }
+        }
+
+        @Override
+        public void add(E element) {
+            throw unsupported();
+        }
+
+        @Override
+        public void set(int index, E element) {
+            throw unsupported();
+        }
+
+        @Override
+        public void add(int index, E element) {
+            throw unsupported();
+        }
+
+        @Override
+        public void addFirst(E element) {
+            throw unsupported();
+        }
+
+        @Override
+        public void addLast(E element) {
+            throw unsupported();
+        }
+
+        @Override
+        public void remove(int index) {
+            throw unsupported();
+        }
+
+        @Override
+        public void removeLast() {
+            throw unsupported();
+        }
+
+        @Override
+        public void removeFirst() {
+            throw unsupported();
+        }
+
+        @Override
+        public void sort(Comparator<E> cmp) {
+            throw unsupported();
+        }
+
+        @Override
+        public void clear() {
+            throw unsupported();
+        }
+
+        @Override
+        public void addAll(MyList<E> other) {
+            throw unsupported();
+        }
+
+        @Override
+        public void addAll(int index, E[] items) {
+            throw unsupported();
+        }
+
+        @Override
+        public void removeRange(int from, int to) {
+            throw unsupported();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            throw unsupported();
+        }
+
+        private UnsupportedOperationException unsupported() {
+            return new UnsupportedOperationException("Snapshot is read-only, change the list through MySnapshotList.");
+        }
+    }
+}
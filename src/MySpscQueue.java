@@ -0,0 +1,199 @@
+import interfaces.IMyQueue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bounded wait-free queue for exactly one producer thread and one consumer thread.
+ * Elements live in a power-of-two ring indexed by two ever-growing sequence counters.
+ * The producer publishes the tail with a release store and the consumer publishes the head
+ * the same way, so no locks are needed. Each side keeps a cached copy of the other side's
+ * counter and only re-reads the shared one when the cached value says the ring is full or empty.
+ * The counters are separated by padding so they never share a cache line.
+ *
+ * Only the producer thread may call enqueue; only the consumer thread may call dequeue and peek.
+ * size and empty may be called from any thread and are approximate while both sides are running.
+ *
+ * @param <T> the type of elements stored in the queue
+ */
+public class MySpscQueue<T> extends MySpscQueueTailPadding implements IMyQueue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(MySpscQueueHead.class, "head", long.class);
+            TAIL = lookup.findVarHandle(MySpscQueueTail.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] buffer;  // Ring of elements
+    private final int mask;         // capacity - 1, turns a sequence into a ring index
+
+    /**
+     * Constructs a queue that can hold at least the given number of elements.
+     * The capacity is rounded up to the next power of two.
+     *
+     * @param capacity the minimum capacity
+     * @throws IllegalArgumentException if capacity is not positive or too large
+     */
+    public MySpscQueue(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        }
+        int ringSize = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = new Object[ringSize];
+        mask = ringSize - 1;
+    }
+
+    /**
+     * Returns the number of elements the queue can hold.
+     *
+     * @return the capacity of the ring
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     * Approximate while the producer or the consumer is running.
+     *
+     * @return true if the queue contains no elements, false otherwise
+     */
+    @Override
+    public boolean empty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the queue.
+     * Approximate while the producer or the consumer is running.
+     *
+     * @return the size of the queue
+     */
+    @Override
+    public int size() {
+        long after = (long) HEAD.getAcquire(this);
+        while (true) {
+            long before = after;
+            long currentTail = (long) TAIL.getAcquire(this);
+            after = (long) HEAD.getAcquire(this);
+            if (before == after) {
+                return (int) Math.min(Math.max(currentTail - after, 0), buffer.length);
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the front of the queue without removing it.
+     * Must only be called from the consumer thread.
+     *
+     * @return the front element, or null if the queue is empty
+     */
+    @Override
+    public T peek() {
+        long currentHead = head;
+        if (currentHead >= cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (currentHead >= cachedTail) {
+                return null;
+            }
+        }
+        return (T) buffer[(int) currentHead & mask];
+    }
+
+    /**
+     * Adds a new element to the end of the queue.
+     * Must only be called from the producer thread. Never blocks.
+     *
+     * @param newItem the element to enqueue
+     * @return the enqueued element, or null if the queue is full
+     * @throws IllegalArgumentException if the element is null
+     */
+    @Override
+    public T enqueue(T newItem) {
+        if (newItem == null) {
+            throw new IllegalArgumentException("Queue does not accept null elements.");
+        }
+        long currentTail = tail;
+        if (currentTail - cachedHead >= buffer.length) {
+            cachedHead = (long) HEAD.getAcquire(this);  // Re-read only when the ring looks full
+            if (currentTail - cachedHead >= buffer.length) {
+                return null;
+            }
+        }
+        buffer[(int) currentTail & mask] = newItem;
+        TAIL.setRelease(this, currentTail + 1);  // Publishes the element to the consumer
+        return newItem;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     * Must only be called from the consumer thread. Never blocks.
+     *
+     * @return the removed element, or null if the queue is empty
+     */
+    @Override
+    public T dequeue() {
+        long currentHead = head;
+        if (currentHead >= cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);  // Re-read only when the ring looks empty
+            if (currentHead >= cachedTail) {
+                return null;
+            }
+        }
+        int index = (int) currentHead & mask;
+        T removingItem = (T) buffer[index];
+        buffer[index] = null;
+        HEAD.setRelease(this, currentHead + 1);  // Hands the slot back to the producer
+        return removingItem;
+    }
+}
+
+// ========== Field layout ==========
+// The JVM lays out superclass fields before subclass fields, so this chain keeps
+// the producer fields and the consumer fields on separate cache lines.
+
+/**
+ * Padding in front of the consumer fields.
+ */
+abstract class MySpscQueueHeadPadding {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+/**
+ * Fields written by the consumer thread.
+ */
+abstract class MySpscQueueHead extends MySpscQueueHeadPadding {
+    long head;              // Sequence of the next element to dequeue, published with release stores
+    long cachedTail;        // Consumer's last seen value of tail
+}
+
+/**
+ * Padding between the consumer fields and the producer fields.
+ */
+abstract class MySpscQueueMidPadding extends MySpscQueueHead {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p30, p31, p32, p33, p34, p35, p36;
+}
+
+/**
+ * Fields written by the producer thread.
+ */
+abstract class MySpscQueueTail extends MySpscQueueMidPadding {
+    long tail;              // Sequence of the next free slot, published with release stores
+    long cachedHead;        // Producer's last seen value of head
+}
+
+/**
+ * Padding after the producer fields.
+ */
+abstract class MySpscQueueTailPadding extends MySpscQueueTail {
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+    long p50, p51, p52, p53, p54, p55, p56;
+}
@@ -0,0 +1,614 @@
+import java.util.Comparator;
+
+/**
+ * Stable, adaptive merge sort (TimSort style) that works directly on a range of an Object array.
+ * Finds runs that are already ordered, extends short runs with binary insertion sort
+ * and merges neighbouring runs with galloping. All merges share one scratch buffer
+ * that only grows when a longer run has to be copied out.
+ * Nearly-sorted input finishes in close to linear time.
+ */
+class MyTimSort {
+    private static final int MIN_MERGE = 32;          // Ranges shorter than this are binary-insertion sorted
+    private static final int MIN_GALLOP = 7;          // Initial number of wins before switching to galloping
+    private static final int INITIAL_TMP_LENGTH = 256; // Initial size of the scratch buffer
+
+    private final Object[] a;                  // Array being sorted
+    private final Comparator<Object> cmp;      // Comparator for this sort
+    private int minGallop = MIN_GALLOP;        // Current galloping threshold, adapts to the data
+    private Object[] tmp;                      // Reusable scratch buffer for merges
+
+    private int stackSize = 0;                 // Number of pending runs on the stack
+    private final int[] runBase;               // Start index of each pending run
+    private final int[] runLen;                // Length of each pending run
+
+    /**
+     * Creates the sort state for one sort call.
+     *
+     * @param a      the array being sorted
+     * @param cmp    the comparator used to compare elements
+     * @param length the length of the range being sorted
+     */
+    private MyTimSort(Object[] a, Comparator<Object> cmp, int length) {
+        this.a = a;
+        this.cmp = cmp;
+        int tmpLength = length < 2 * INITIAL_TMP_LENGTH ? length >>> 1 : INITIAL_TMP_LENGTH;
+        this.tmp = new Object[tmpLength];
+        int stackLength = length < 120 ? 5 : length < 1542 ? 10 : length < 119151 ? 24 : 49;
+        this.runBase = new int[stackLength];
+        this.runLen = new int[stackLength];
+    }
+
+    /**
+     * Sorts the range [lo, hi) of the array in a stable way.
+     *
+     * @param a   the array to sort
+     * @param lo  the first index to sort (inclusive)
+     * @param hi  the last index to sort (exclusive)
+     * @param cmp the comparator used to compare elements
+     * @throws IllegalArgumentException if the comparator violates its contract
+     */
+    static <T> void sort(Object[] a, int lo, int hi, Comparator<? super T> cmp) {
+        Comparator<Object> c = (Comparator<Object>) cmp;
+        int remaining = hi - lo;
+        if (remaining < 2) {
+            return;
+        }
+
+        // Short ranges: one run plus binary insertion, no merging needed
+        if (remaining < MIN_MERGE) {
+            int initRunLen = countRunAndMakeAscending(a, lo, hi, c);
+            binarySort(a, lo, hi, lo + initRunLen, c);
+            return;
+        }
+
+        MyTimSort ts = new MyTimSort(a, c, remaining);
+        int minRun = minRunLength(remaining);
+        do {
+            int runLength = countRunAndMakeAscending(a, lo, hi, c);
+
+            // Extend short runs to minRun with binary insertion
+            if (runLength < minRun) {
+                int force = Math.min(remaining, minRun);
+                binarySort(a, lo, lo + force, lo + runLength, c);
+                runLength = force;
+            }
+
+            ts.pushRun(lo, runLength);
+            ts.mergeCollapse();
+
+            lo += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+
+        ts.mergeForceCollapse();
+    }
+
+    /**
+     * Sorts [lo, hi) with binary insertion, assuming [lo, start) is already sorted.
+     *
+     * @param a     the array to sort
+     * @param lo    the first index of the range
+     * @param hi    the end of the range (exclusive)
+     * @param start the first index that is not known to be sorted
+     * @param c     the comparator
+     */
+    private static void binarySort(Object[] a, int lo, int hi, int start, Comparator<Object> c) {
+        if (start == lo) {
+            start++;
+        }
+        for (; start < hi; start++) {
+            Object pivot = a[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (c.compare(pivot, a[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;  // Equal elements stay in front, keeps the sort stable
+                }
+            }
+            System.arraycopy(a, left, a, left + 1, start - left);
+            a[left] = pivot;
+        }
+    }
+
+    /**
+     * Returns the length of the run starting at lo.
+     * A strictly descending run is reversed in place so every run ends up ascending.
+     *
+     * @param a  the array
+     * @param lo the start of the run
+     * @param hi the end of the range (exclusive)
+     * @param c  the comparator
+     * @return the length of the run
+     */
+    private static int countRunAndMakeAscending(Object[] a, int lo, int hi, Comparator<Object> c) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+
+        if (c.compare(a[runHi++], a[lo]) < 0) {
+            while (runHi < hi && c.compare(a[runHi], a[runHi - 1]) < 0) {
+                runHi++;
+            }
+            reverseRange(a, lo, runHi);
+        } else {
+            while (runHi < hi && c.compare(a[runHi], a[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    /**
+     * Reverses the range [lo, hi) of the array.
+     *
+     * @param a  the array
+     * @param lo the first index (inclusive)
+     * @param hi the last index (exclusive)
+     */
+    private static void reverseRange(Object[] a, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            Object temp = a[lo];
+            a[lo++] = a[hi];
+            a[hi--] = temp;
+        }
+    }
+
+    /**
+     * Returns the minimum run length for a range of length n,
+     * chosen so that n / minRun is close to a power of two.
+     *
+     * @param n the length of the range
+     * @return the minimum run length
+     */
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * Pushes a run onto the pending run stack.
+     *
+     * @param base   the start index of the run
+     * @param length the length of the run
+     */
+    private void pushRun(int base, int length) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = length;
+        stackSize++;
+    }
+
+    /**
+     * Merges pending runs until the stack invariants hold again:
+     * every run is longer than the sum of the two runs above it.
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                    || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                if (runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+            } else if (runLen[n] > runLen[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges all pending runs into one.
+     */
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges the runs at stack positions i and i + 1.
+     *
+     * @param i the stack position of the first run
+     */
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
+
+        // Elements of run1 that are already in place can be skipped
+        int k = gallopRight(a[base2], a, base1, len1, 0, cmp);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // Elements of run2 that are already in place can be skipped
+        len2 = gallopLeft(a[base1 + len1 - 1], a, base2, len2, len2 - 1, cmp);
+        if (len2 == 0) {
+            return;
+        }
+
+        if (len1 <= len2) {
+            mergeLo(base1, len1, base2, len2);
+        } else {
+            mergeHi(base1, len1, base2, len2);
+        }
+    }
+
+    /**
+     * Finds the position where key would be inserted in the sorted range;
+     * if equal elements are present, returns the position of the leftmost one.
+     *
+     * @param key  the key to look for
+     * @param a    the array to search
+     * @param base the first index of the sorted range
+     * @param len  the length of the range
+     * @param hint the index (relative to base) to start galloping from
+     * @param c    the comparator
+     * @return k such that a[base + k - 1] &lt; key &lt;= a[base + k]
+     */
+    static int gallopLeft(Object key, Object[] a, int base, int len, int hint, Comparator<Object> c) {
+        int lastOfs = 0;
+        int ofs = 1;
+        if (c.compare(key, a[base + hint]) > 0) {
+            // Gallop right until a[base + hint + lastOfs] < key <= a[base + hint + ofs]
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && c.compare(key, a[base + hint + ofs]) > 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;  // int overflow
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            lastOfs += hint;
+            ofs += hint;
+        } else {
+            // Gallop left until a[base + hint - ofs] < key <= a[base + hint - lastOfs]
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && c.compare(key, a[base + hint - ofs]) <= 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            int temp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - temp;
+        }
+
+        // Binary search in (lastOfs, ofs]
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (c.compare(key, a[base + m]) > 0) {
+                lastOfs = m + 1;
+            } else {
+                ofs = m;
+            }
+        }
+        return ofs;
+    }
+
+    /**
+     * Like gallopLeft, but if equal elements are present, returns the position after the rightmost one.
+     *
+     * @param key  the key to look for
+     * @param a    the array to search
+     * @param base the first index of the sorted range
+     * @param len  the length of the range
+     * @param hint the index (relative to base) to start galloping from
+     * @param c    the comparator
+     * @return k such that a[base + k - 1] &lt;= key &lt; a[base + k]
+     */
+    static int gallopRight(Object key, Object[] a, int base, int len, int hint, Comparator<Object> c) {
+        int lastOfs = 0;
+        int ofs = 1;
+        if (c.compare(key, a[base + hint]) < 0) {
+            // Gallop left until a[base + hint - ofs] <= key < a[base + hint - lastOfs]
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && c.compare(key, a[base + hint - ofs]) < 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            int temp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - temp;
+        } else {
+            // Gallop right until a[base + hint + lastOfs] <= key < a[base + hint + ofs]
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && c.compare(key, a[base + hint + ofs]) >= 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+            lastOfs += hint;
+            ofs += hint;
+        }
+
+        // Binary search in (lastOfs, ofs]
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (c.compare(key, a[base + m]) < 0) {
+                ofs = m;
+            } else {
+                lastOfs = m + 1;
+            }
+        }
+        return ofs;
+    }
+
+    /**
+     * Merges two adjacent runs when the first one is not longer than the second.
+     * Copies the first run into the scratch buffer and merges from left to right.
+     *
+     * @param base1 the start of the first run
+     * @param len1  the length of the first run
+     * @param base2 the start of the second run (equal to base1 + len1)
+     * @param len2  the length of the second run
+     */
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        Object[] a = this.a;
+        Object[] tmp = ensureTmpCapacity(len1);
+        System.arraycopy(a, base1, tmp, 0, len1);
+
+        int cursor1 = 0;       // Index into tmp
+        int cursor2 = base2;   // Index into a
+        int dest = base1;      // Index into a
+
+        // The first element of run2 is known to go first (see mergeAt)
+        a[dest++] = a[cursor2++];
+        if (--len2 == 0) {
+            System.arraycopy(tmp, cursor1, a, dest, len1);
+            return;
+        }
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = tmp[cursor1];
+            return;
+        }
+
+        Comparator<Object> c = cmp;
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;  // Number of times in a row run1 won
+            int count2 = 0;  // Number of times in a row run2 won
+
+            // One element at a time until one run starts winning consistently
+            do {
+                if (c.compare(a[cursor2], tmp[cursor1]) < 0) {
+                    a[dest++] = a[cursor2++];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 0) {
+                        break outer;
+                    }
+                } else {
+                    a[dest++] = tmp[cursor1++];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((count1 | count2) < minGallop);
+
+            // Galloping: copy whole blocks while one run keeps winning
+            do {
+                count1 = gallopRight(a[cursor2], tmp, cursor1, len1, 0, c);
+                if (count1 != 0) {
+                    System.arraycopy(tmp, cursor1, a, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    len1 -= count1;
+                    if (len1 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest++] = a[cursor2++];
+                if (--len2 == 0) {
+                    break outer;
+                }
+
+                count2 = gallopLeft(tmp[cursor1], a, cursor2, len2, 0, c);
+                if (count2 != 0) {
+                    System.arraycopy(a, cursor2, a, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+                    len2 -= count2;
+                    if (len2 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest++] = tmp[cursor1++];
+                if (--len1 == 1) {
+                    break outer;
+                }
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+            if (minGallop < 0) {
+                minGallop = 0;
+            }
+            minGallop += 2;  // Penalty for leaving galloping mode
+        }
+        this.minGallop = minGallop < 1 ? 1 : minGallop;
+
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = tmp[cursor1];
+        } else if (len1 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract.");
+        } else {
+            System.arraycopy(tmp, cursor1, a, dest, len1);
+        }
+    }
+
+    /**
+     * Merges two adjacent runs when the first one is longer than the second.
+     * Copies the second run into the scratch buffer and merges from right to left.
+     *
+     * @param base1 the start of the first run
+     * @param len1  the length of the first run
+     * @param base2 the start of the second run (equal to base1 + len1)
+     * @param len2  the length of the second run
+     */
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        Object[] a = this.a;
+        Object[] tmp = ensureTmpCapacity(len2);
+        System.arraycopy(a, base2, tmp, 0, len2);
+
+        int cursor1 = base1 + len1 - 1;  // Index into a
+        int cursor2 = len2 - 1;          // Index into tmp
+        int dest = base2 + len2 - 1;     // Index into a
+
+        // The last element of run1 is known to go last (see mergeAt)
+        a[dest--] = a[cursor1--];
+        if (--len1 == 0) {
+            System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+            return;
+        }
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = tmp[cursor2];
+            return;
+        }
+
+        Comparator<Object> c = cmp;
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;  // Number of times in a row run1 won
+            int count2 = 0;  // Number of times in a row run2 won
+
+            do {
+                if (c.compare(tmp[cursor2], a[cursor1]) < 0) {
+                    a[dest--] = a[cursor1--];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 0) {
+                        break outer;
+                    }
+                } else {
+                    a[dest--] = tmp[cursor2--];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((count1 | count2) < minGallop);
+
+            do {
+                count1 = len1 - gallopRight(tmp[cursor2], a, base1, len1, len1 - 1, c);
+                if (count1 != 0) {
+                    dest -= count1;
+                    cursor1 -= count1;
+                    len1 -= count1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                    if (len1 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest--] = tmp[cursor2--];
+                if (--len2 == 1) {
+                    break outer;
+                }
+
+                count2 = len2 - gallopLeft(a[cursor1], tmp, 0, len2, len2 - 1, c);
+                if (count2 != 0) {
+                    dest -= count2;
+                    cursor2 -= count2;
+                    len2 -= count2;
+                    System.arraycopy(tmp, cursor2 + 1, a, dest + 1, count2);
+                    if (len2 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest--] = a[cursor1--];
+                if (--len1 == 0) {
+                    break outer;
+                }
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+            if (minGallop < 0) {
+                minGallop = 0;
+            }
+            minGallop += 2;
+        }
+        this.minGallop = minGallop < 1 ? 1 : minGallop;
+
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = tmp[cursor2];
+        } else if (len2 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract.");
+        } else {
+            System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+        }
+    }
+
+    /**
+     * Makes sure the scratch buffer can hold at least minCapacity elements.
+     * Grows to the next power of two, capped at half the array length.
+     *
+     * @param minCapacity the required capacity
+     * @return the scratch buffer
+     */
+    private Object[] ensureTmpCapacity(int minCapacity) {
+        if (tmp.length < minCapacity) {
+            int newSize = Integer.highestOneBit(minCapacity) << 1;
+            if (newSize < 0) {
+                newSize = minCapacity;
+            } else {
+                newSize = Math.min(newSize, a.length >>> 1);
+            }
+            tmp = new Object[Math.max(newSize, minCapacity)];
+        }
+        return tmp;
+    }
+}
@@ -0,0 +1,118 @@
+import interfaces.MyList;
+
+/**
+ * Keeps the K largest elements seen in a stream, using at most K slots of memory.
+ * The elements are held in a MyMinHeap, so the root is the smallest of the kept elements,
+ * the one that a better candidate has to push out.
+ * A candidate that is not greater than the root is rejected in O(1).
+ * A candidate that qualifies replaces the root with one sift-down (replaceMin), in O(log K).
+ * Partial results from several workers can be combined with merge.
+ *
+ * @param <T> the type of elements, must be Comparable
+ */
+public class MyTopK<T extends Comparable<T>> {
+    private final int k;              // Maximum number of kept elements
+    private final MyList<T> list;     // Storage of the heap, also used to read the kept elements
+    private final MyMinHeap<T> heap;  // Min-heap of the kept elements
+
+    /**
+     * Constructs an empty selector for the k largest elements.
+     *
+     * @param k the number of elements to keep
+     * @throws IllegalArgumentException if k is less than 1
+     */
+    public MyTopK(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("K must be positive: " + k);
+        }
+        this.k = k;
+        this.list = new MyArrayList<>();
+        this.heap = new MyMinHeap<>(list);
+    }
+
+    /**
+     * Offers a candidate to the selector.
+     *
+     * @param item the candidate
+     * @return true if the candidate is now among the kept elements
+     * @throws IllegalArgumentException if the item is null
+     */
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Top-K does not accept null elements.");
+        }
+        if (heap.size() < k) {
+            heap.insert(item);
+            return true;
+        }
+        if (item.compareTo(heap.getMin()) <= 0) {
+            return false;
+        }
+        heap.replaceMin(item);
+        return true;
+    }
+
+    /**
+     * Offers every element of another selector to this one.
+     * The other selector is not changed. Merging a selector with itself does nothing,
+     * because it already holds its own elements.
+     *
+     * @param other the selector to merge into this one
+     */
+    public void merge(MyTopK<T> other) {
+        if (other == this) {
+            return;
+        }
+        for (T item : other.list) {
+            offer(item);
+        }
+    }
+
+    /**
+     * Returns the smallest of the kept elements, the value a candidate has to beat once K elements are kept.
+     *
+     * @return the smallest kept element, or null if nothing is kept
+     */
+    public T threshold() {
+        return heap.getMin();
+    }
+
+    /**
+     * Returns the number of kept elements.
+     *
+     * @return the number of kept elements, at most K
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the maximum number of kept elements.
+     *
+     * @return K
+     */
+    public int capacity() {
+        return k;
+    }
+
+    /**
+     * Returns the kept elements in a new list, largest first.
+     *
+     * @return a new list with the kept elements
+     */
+    public MyList<T> toSortedList() {
+        MyList<T> result = new MyArrayList<>();
+        for (T item : list) {
+            result.addLast(item);
+        }
+        result.sort((a, b) -> b.compareTo(a));
+        return result;
+    }
+
+    /**
+     * Removes all kept elements.
+     */
+    public void clear() {
+        list.clear();
+    }
+}
@@ -0,0 +1,839 @@
+import interfaces.MyList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * A doubly linked list of small arrays (unrolled linked list).
+ * Every node holds up to nodeCapacity elements in an array, so the per-element cost
+ * is one array slot instead of a whole MyNode, and iteration and searches walk
+ * through contiguous memory. A full node is split in two when an element is inserted into it,
+ * and a node that becomes less than a quarter full is merged with a neighbour.
+ * Index access walks nodes (not elements) from the nearer end of the list.
+ *
+ * @param <T> the type of elements in the list
+ */
+public class MyUnrolledLinkedList<T> implements MyList<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;  // Maximum number of elements per node
+    private Node head;               // First node of the list
+    private Node tail;               // Last node of the list
+    private int size;                // Number of elements in the list
+    private int modCount;            // Number of structural changes, checked by forEach
+
+    /**
+     * Constructs an empty list with 64 elements per node.
+     */
+    public MyUnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given number of elements per node.
+     *
+     * @param nodeCapacity the maximum number of elements in one node
+     * @throws IllegalArgumentException if nodeCapacity is less than 4
+     */
+    public MyUnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 4) {
+            throw new IllegalArgumentException("Node capacity must be at least 4: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Sets the element at the specified index.
+     *
+     * @param index   index to update
+     * @param element new value
+     */
+    @Override
+    public void set(int index, T element) {
+        checkIndex(index);
+        Position position = findNode(index);
+        position.node.items[position.offset] = element;
+    }
+
+    /**
+     * Adds an element at the specified index.
+     * Splits the node first if it is full.
+     *
+     * @param index   index to insert at
+     * @param element element to insert
+     */
+    @Override
+    public void add(int index, T element) {
+        checkIndex(index);
+        Position position = findNode(index);
+        Node node = position.node;
+        int offset = position.offset;
+
+        if (node.count == nodeCapacity) {
+            Node right = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = right;
+            }
+        }
+        insertInto(node, offset, element);
+    }
+
+    /**
+     * Adds an element at the beginning of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void addFirst(T element) {
+        if (head == null || head.count == nodeCapacity) {
+            linkAfter(null, new Node(nodeCapacity));
+        }
+        insertInto(head, 0, element);
+    }
+
+    /**
+     * Adds an element at the end of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void addLast(T element) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail, new Node(nodeCapacity));
+        }
+        tail.items[tail.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index index to retrieve
+     * @return element at the index
+     */
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        Position position = findNode(index);
+        return (T) position.node.items[position.offset];
+    }
+
+    /**
+     * Returns the first element in the list.
+     *
+     * @return the first element
+     */
+    @Override
+    public T getFirst() {
+        checkEmpty();
+        return (T) head.items[0];
+    }
+
+    /**
+     * Returns the last element in the list.
+     *
+     * @return the last element
+     */
+    @Override
+    public T getLast() {
+        checkEmpty();
+        return (T) tail.items[tail.count - 1];
+    }
+
+    /**
+     * Removes the element at the given index.
+     * Merges the node with a neighbour if it becomes less than a quarter full.
+     *
+     * @param index index to remove
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        Position position = findNode(index);
+        removeFrom(position.node, position.offset);
+    }
+
+    /**
+     * Removes the last element in the list.
+     */
+    @Override
+    public void removeLast() {
+        checkEmpty();
+        Node last = tail;
+        last.items[--last.count] = null;
+        size--;
+        modCount++;
+        if (last.count == 0) {
+            unlink(last);
+        }
+    }
+
+    /**
+     * Removes the first element in the list.
+     */
+    @Override
+    public void removeFirst() {
+        checkEmpty();
+        removeFrom(head, 0);
+    }
+
+    /**
+     * Sorts the list using the given comparator.
+     * Copies the elements into one array, sorts it with MyTimSort and writes them back.
+     *
+     * @param cmp comparator to define order
+     */
+    @Override
+    public void sort(Comparator<T> cmp) {
+        Object[] all = toArray();
+        MyTimSort.sort(all, 0, all.length, cmp);
+        modCount++;
+        int position = 0;
+        for (Node node = head; node != null; node = node.next) {
+            System.arraycopy(all, position, node.items, 0, node.count);
+            position += node.count;
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the object.
+     *
+     * @param object object to find
+     * @return index or -1 if not found
+     */
+    @Override
+    public int indexOf(Object object) {
+        int base = 0;
+        for (Node node = head; node != null; node = node.next) {
+            Object[] items = node.items;
+            for (int i = 0; i < node.count; i++) {
+                if (items[i].equals(object)) return base + i;
+            }
+            base += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the object.
+     *
+     * @param object object to find
+     * @return index or -1 if not found
+     */
+    @Override
+    public int lastIndexOf(Object object) {
+        int end = size;
+        for (Node node = tail; node != null; node = node.prev) {
+            Object[] items = node.items;
+            end -= node.count;
+            for (int i = node.count - 1; i >= 0; i--) {
+                if (items[i].equals(object)) return end + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the list contains the given object.
+     *
+     * @param object object to search
+     * @return true if exists, false otherwise
+     */
+    @Override
+    public boolean exists(Object object) {
+        return indexOf(object) != -1;
+    }
+
+    /**
+     * Adds all elements of another list to the end of this list.
+     * Fills the free space of the last node, then appends full nodes, copying with System.arraycopy.
+     *
+     * @param other the list whose elements to add, may be this list
+     */
+    @Override
+    public void addAll(MyList<T> other) {
+        Object[] items = other.toArray();
+        if (items.length == 0) {
+            return;
+        }
+        if (tail == null) {
+            linkAfter(null, new Node(nodeCapacity));
+        }
+        appendItems(tail, items, 0, items.length);
+        size += items.length;
+        modCount++;
+    }
+
+    /**
+     * Inserts all elements of an array at the specified index.
+     * The elements after the index in its node are set aside, the new elements are packed
+     * into that node and new full nodes after it, and the set-aside elements follow.
+     *
+     * @param index the position to insert at, from 0 to size
+     * @param items the elements to insert
+     */
+    @Override
+    public void addAll(int index, T[] items) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + " out of bounds. Size: " + size);
+        }
+        if (items.length == 0) {
+            return;
+        }
+        if (index == size) {
+            if (tail == null) {
+                linkAfter(null, new Node(nodeCapacity));
+            }
+            appendItems(tail, items, 0, items.length);
+            size += items.length;
+            modCount++;
+            return;
+        }
+
+        Position position = findNode(index);
+        Node node = position.node;
+        int offset = position.offset;
+        Object[] rest = Arrays.copyOfRange(node.items, offset, node.count);
+        Arrays.fill(node.items, offset, node.count, null);
+        node.count = offset;
+
+        Node last = appendItems(node, items, 0, items.length);
+        last = appendItems(last, rest, 0, rest.length);
+        size += items.length;
+        modCount++;
+        rebalance(last);
+    }
+
+    /**
+     * Removes the elements at indices [from, to).
+     * Nodes inside the range are unlinked whole, the nodes at both ends are trimmed
+     * and merged with a neighbour if they become less than a quarter full.
+     *
+     * @param from the first index to remove (inclusive)
+     * @param to   the last index to remove (exclusive)
+     * @throws IndexOutOfBoundsException if the range is not inside the list
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + ") out of bounds. Size: " + size);
+        }
+        if (from == to) {
+            return;
+        }
+
+        Position position = findNode(from);
+        Node node = position.node;
+        int offset = position.offset;
+        int remaining = to - from;
+        Node firstTrimmed = null;  // Nodes that lost some but not all of their elements
+        Node lastTrimmed = null;
+        while (remaining > 0) {
+            Node next = node.next;
+            int chunk = Math.min(remaining, node.count - offset);
+            if (chunk == node.count) {
+                unlink(node);
+            } else {
+                System.arraycopy(node.items, offset + chunk, node.items, offset, node.count - offset - chunk);
+                Arrays.fill(node.items, node.count - chunk, node.count, null);
+                node.count -= chunk;
+                if (firstTrimmed == null) {
+                    firstTrimmed = node;
+                }
+                lastTrimmed = node;
+            }
+            remaining -= chunk;
+            size -= chunk;
+            modCount++;
+            node = next;
+            offset = 0;
+        }
+
+        // Rebalancing the last node can only merge it into its predecessor, which keeps the first one linked
+        if (lastTrimmed != null && lastTrimmed != firstTrimmed) {
+            rebalance(lastTrimmed);
+        }
+        if (firstTrimmed != null) {
+            rebalance(firstTrimmed);
+        }
+    }
+
+    /**
+     * Removes all elements that match the filter in a single pass.
+     * Kept elements are packed into the nodes from the front, so afterwards every node
+     * except the last one is full, and the nodes left over at the end are unlinked.
+     * If the filter throws, the elements it has not reached yet are kept and the exception is rethrown.
+     *
+     * @param filter the condition for removing an element
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (head == null) {
+            return false;
+        }
+        RuntimeException failure = null;
+        Node writeNode = head;
+        int writeOffset = 0;
+        int kept = 0;
+        for (Node node = head; node != null; node = node.next) {
+            for (int offset = 0; offset < node.count; offset++) {
+                T element = (T) node.items[offset];
+                if (failure == null) {
+                    try {
+                        if (filter.test(element)) {
+                            continue;
+                        }
+                    } catch (RuntimeException e) {
+                        failure = e;
+                    }
+                }
+                // The writer never passes the reader, so this only overwrites elements already read
+                if (writeOffset == nodeCapacity) {
+                    writeNode.count = nodeCapacity;
+                    writeNode = writeNode.next;
+                    writeOffset = 0;
+                }
+                writeNode.items[writeOffset++] = element;
+                kept++;
+            }
+        }
+
+        // Elements were packed into fewer nodes even if none were removed, so always cut off the rest
+        boolean removed = kept != size;
+        if (kept == 0) {
+            clear();
+        } else {
+            Arrays.fill(writeNode.items, writeOffset, nodeCapacity, null);
+            writeNode.count = writeOffset;
+            writeNode.next = null;
+            tail = writeNode;
+            size = kept;
+            modCount++;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return removed;
+    }
+
+    /**
+     * Copies the elements in list order to the start of the given array.
+     *
+     * @param target the array to copy into
+     * @throws IndexOutOfBoundsException if the array is shorter than the list
+     */
+    @Override
+    public void copyInto(T[] target) {
+        if (target.length < size) {
+            throw new IndexOutOfBoundsException("Array length: " + target.length + " is less than size: " + size);
+        }
+        int position = 0;
+        for (Node node = head; node != null; node = node.next) {
+            System.arraycopy(node.items, 0, target, position, node.count);
+            position += node.count;
+        }
+    }
+
+    /**
+     * Returns the list as an array.
+     *
+     * @return array of elements
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int position = 0;
+        for (Node node = head; node != null; node = node.next) {
+            System.arraycopy(node.items, 0, result, position, node.count);
+            position += node.count;
+        }
+        return result;
+    }
+
+    /**
+     * Clears the list.
+     */
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over the elements in the list.
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new MyIterator();
+    }
+
+    /**
+     * Performs the action for each element, in order, reading the node arrays directly.
+     *
+     * @param action the action to perform
+     * @throws ConcurrentModificationException if the list is structurally changed during the loop
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (Node node = head; node != null; node = node.next) {
+            Object[] items = node.items;
+            for (int i = 0; i < node.count && modCount == expectedModCount; i++) {
+                action.accept((T) items[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Performs the action for each element at indices [from, to), in order.
+     * Finds the node of from once, then reads the node arrays directly.
+     *
+     * @param from   the first index (inclusive)
+     * @param to     the last index (exclusive)
+     * @param action the action to perform
+     * @throws IndexOutOfBoundsException       if the range is not inside the list
+     * @throws ConcurrentModificationException if the list is structurally changed during the loop
+     */
+    @Override
+    public void forEachRange(int from, int to, Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + ") out of bounds. Size: " + size);
+        }
+        if (from == to) {
+            return;
+        }
+        int expectedModCount = modCount;
+        Position position = findNode(from);
+        Node node = position.node;
+        int offset = position.offset;
+        int remaining = to - from;
+        while (remaining > 0) {
+            Object[] items = node.items;
+            int end = Math.min(node.count, offset + remaining);
+            for (int i = offset; i < end && modCount == expectedModCount; i++) {
+                action.accept((T) items[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            remaining -= end - offset;
+            node = node.next;
+            offset = 0;
+        }
+    }
+
+    /**
+     * Performs the action for each element together with its index, in order.
+     * The index is passed as a plain int, so nothing is boxed.
+     *
+     * @param action the action to perform, receives the element and its index
+     * @throws ConcurrentModificationException if the list is structurally changed during the loop
+     */
+    @Override
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        int index = 0;
+        for (Node node = head; node != null; node = node.next) {
+            Object[] items = node.items;
+            for (int i = 0; i < node.count && modCount == expectedModCount; i++) {
+                action.accept((T) items[i], index++);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Returns a spliterator that knows the size of the list and splits off batches of elements in arrays.
+     *
+     * @return a spliterator over the elements in the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    // ========== Helper Methods and Inner Classes ==========
+
+    /**
+     * Finds the node holding the element at the given index.
+     * Walks nodes from the nearer end. Returns the offset together with the node,
+     * so lookups write nothing and threads reading the list at the same time do not interfere.
+     *
+     * @param index a valid index
+     * @return the node holding the element and the offset inside it
+     */
+    private Position findNode(int index) {
+        if (index < size / 2) {
+            Node node = head;
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.next;
+            }
+            return new Position(node, index);
+        }
+
+        Node node = tail;
+        int start = size - node.count;  // List index of the first element in node
+        while (index < start) {
+            node = node.prev;
+            start -= node.count;
+        }
+        return new Position(node, index - start);
+    }
+
+    /**
+     * Inserts an element into a node that is not full.
+     *
+     * @param node    the node to insert into
+     * @param offset  the position inside the node
+     * @param element the element to insert
+     */
+    private void insertInto(Node node, int offset, T element) {
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = element;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at an offset inside a node, then unlinks or merges the node if needed.
+     *
+     * @param node   the node to remove from
+     * @param offset the position inside the node
+     */
+    private void removeFrom(Node node, int offset) {
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.items[--node.count] = null;
+        size--;
+        modCount++;
+        rebalance(node);
+    }
+
+    /**
+     * Unlinks a node that became empty, or merges it with a neighbour if it is less than a quarter full.
+     *
+     * @param node the node to check
+     */
+    private void rebalance(Node node) {
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < nodeCapacity / 4) {
+            if (node.next != null && node.count + node.next.count <= nodeCapacity) {
+                mergeWithNext(node);
+            } else if (node.prev != null && node.prev.count + node.count <= nodeCapacity) {
+                mergeWithNext(node.prev);
+            }
+        }
+    }
+
+    /**
+     * Copies elements into a node and, once it is full, into new nodes linked after it.
+     * Does not change size.
+     *
+     * @param node   the node to append to
+     * @param source the array to read
+     * @param from   the first position in source
+     * @param length the number of elements to copy
+     * @return the node holding the last copied element
+     */
+    private Node appendItems(Node node, Object[] source, int from, int length) {
+        while (length > 0) {
+            if (node.count == nodeCapacity) {
+                Node next = new Node(nodeCapacity);
+                linkAfter(node, next);
+                node = next;
+            }
+            int chunk = Math.min(length, nodeCapacity - node.count);
+            System.arraycopy(source, from, node.items, node.count, chunk);
+            node.count += chunk;
+            from += chunk;
+            length -= chunk;
+        }
+        return node;
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked right after it.
+     *
+     * @param node the node to split
+     * @return the new node
+     */
+    private Node split(Node node) {
+        Node right = new Node(nodeCapacity);
+        int half = node.count / 2;
+        int moved = node.count - half;
+        System.arraycopy(node.items, half, right.items, 0, moved);
+        for (int i = half; i < node.count; i++) {
+            node.items[i] = null;
+        }
+        right.count = moved;
+        node.count = half;
+        linkAfter(node, right);
+        return right;
+    }
+
+    /**
+     * Moves all elements of the next node into the given node and unlinks the next node.
+     *
+     * @param node the node to merge into; its next node must fit into it
+     */
+    private void mergeWithNext(Node node) {
+        Node next = node.next;
+        System.arraycopy(next.items, 0, node.items, node.count, next.count);
+        node.count += next.count;
+        unlink(next);
+    }
+
+    /**
+     * Links a new node after the given one, or at the front if the given node is null.
+     *
+     * @param node    the node to link after, or null
+     * @param newNode the node to link
+     */
+    private void linkAfter(Node node, Node newNode) {
+        Node next = node == null ? head : node.next;
+        newNode.prev = node;
+        newNode.next = next;
+        if (node == null) {
+            head = newNode;
+        } else {
+            node.next = newNode;
+        }
+        if (next == null) {
+            tail = newNode;
+        } else {
+            next.prev = newNode;
+        }
+    }
+
+    /**
+     * Unlinks a node from the chain.
+     *
+     * @param node the node to unlink
+     */
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    /**
+     * Throws exception if list is empty.
+     */
+    private void checkEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("The list is empty.");
+        }
+    }
+
+    /**
+     * Validates the index.
+     *
+     * @param index index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + " out of bounds. Size: " + size);
+        }
+    }
+
+    /**
+     * A node holding a small array of elements.
+     */
+    private static final class Node {
+        final Object[] items;   // Elements of this node, first count slots are used
+        int count;              // Number of elements in this node
+        Node next;              // Reference to the next node
+        Node prev;              // Reference to the previous node
+
+        Node(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+
+    /**
+     * A node found by index, together with the offset of the element inside it.
+     */
+    private static final class Position {
+        final Node node;   // The node holding the element
+        final int offset;  // Offset of the element inside the node
+
+        Position(Node node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Iterator implementation for the list.
+     */
+    private class MyIterator implements Iterator<T> {
+        private Node current = head;
+        private int offset = 0;
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public T next() {
+            T data = (T) current.items[offset++];
+            if (offset == current.count) {
+                current = current.next;
+                offset = 0;
+            }
+            return data;
+        }
+    }
+}
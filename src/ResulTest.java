@@ -1,5 +1,7 @@
+import interfaces.IMyHeapHandle;
 import interfaces.MyList;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
 public class ResulTest {
@@ -8,10 +10,102 @@ public class ResulTest {
         MyList<Integer> arrayList = new MyArrayList<>();
         testList(arrayList);
 
+        System.out.println("\n--- TESTING MyArrayList (indexed mode) ---");
+        MyArrayList<Integer> indexedList = new MyArrayList<>();
+        indexedList.enableIndex();
+        testList(indexedList);
+        System.out.println("Index footprint > 0: " + (indexedList.indexFootprint() > 0));
+
+        System.out.println("\n--- TESTING MyList streams ---");
+        MyList<Integer> streamList = new MyArrayList<>();
+        MyList<Integer> streamLinkedList = new MyLinkedList<>();
+        for (int i = 1; i <= 1000; i++) {
+            streamList.add(i);
+            streamLinkedList.add(i);
+        }
+        System.out.println("Sum (MyArrayList, stream): " + streamList.stream().mapToLong(Integer::longValue).sum());
+        System.out.println("Sum (MyArrayList, parallelStream): " + streamList.parallelStream().mapToLong(Integer::longValue).sum());
+        System.out.println("Even count (MyLinkedList, parallelStream): " + streamLinkedList.parallelStream().filter(x -> x % 2 == 0).count());
+        long[] total = new long[1];
+        streamLinkedList.forEachRange(0, 10, x -> total[0] += x);
+        System.out.println("Sum of first 10 (MyLinkedList, forEachRange): " + total[0]);
+        StringBuilder indexed = new StringBuilder();
+        streamList.forEachRange(0, 3, x -> indexed.append(x).append(' '));
+        streamList.forEachIndexed((x, i) -> {
+            if (i >= 997) {
+                indexed.append('[').append(i).append("]=").append(x).append(' ');
+            }
+        });
+        System.out.println("forEachRange(0, 3) and last three by forEachIndexed: " + indexed.toString().trim());
+
+        System.out.println("\n--- TESTING MyPersistentVector ---");
+        MyPersistentVector<Integer> version1 = MyPersistentVector.of(10, 20, 30);
+        MyPersistentVector<Integer> version2 = version1.append(40).prepend(0);
+        MyPersistentVector<Integer> version3 = version2.with(2, 25);
+        System.out.println("Version 1: " + Arrays.toString(version1.toArray()));
+        System.out.println("Version 2 (append 40, prepend 0): " + Arrays.toString(version2.toArray()));
+        System.out.println("Version 3 (set index 2 to 25): " + Arrays.toString(version3.toArray()));
+        System.out.println("Concat 1 + 3: " + Arrays.toString(version1.concat(version3).toArray()));
+        try {
+            version1.add(50);
+        } catch (UnsupportedOperationException e) {
+            System.out.println("In-place add rejected: " + e.getMessage());
+        }
+
+        System.out.println("\n--- TESTING MySnapshotList ---");
+        MySnapshotList<String> routes = new MySnapshotList<>();
+        routes.add("/home");
+        routes.add("/about");
+        MyList<String> before = routes.snapshot();
+        routes.update(list -> {
+            list.remove(1);
+            list.addLast("/contact");
+            list.addLast("/blog");
+        });
+        System.out.println("Snapshot before update: " + Arrays.toString(before.toArray()));
+        System.out.println("After one batched update: " + Arrays.toString(routes.toArray()));
+        System.out.println("Version: " + routes.version());
+
+        System.out.println("\n--- TESTING MyConcurrentList ---");
+        MyConcurrentList<Integer> sharedList = new MyConcurrentList<>(new MyLinkedList<>());
+        System.out.println("addIfAbsent 10: " + sharedList.addIfAbsent(10));
+        System.out.println("addIfAbsent 20: " + sharedList.addIfAbsent(20));
+        System.out.println("addIfAbsent 10 again: " + sharedList.addIfAbsent(10));
+        sharedList.add(35);
+        System.out.println("removeFirstMatching (x > 15): " + sharedList.removeFirstMatching(x -> x > 15));
+        System.out.println("Size: " + sharedList.size() + ", first: " + sharedList.getFirst() + ", last: " + sharedList.getLast());
+
+        System.out.println("\n--- TESTING MyArrayList capacity ---");
+        MyArrayList<Integer> sizedList = new MyArrayList<>(4, 1.5);
+        sizedList.enableAutoShrink(0.25);
+        for (int i = 0; i < 100; i++) {
+            sizedList.add(i);
+        }
+        System.out.println("Capacity after 100 adds: " + sizedList.capacity());
+        for (int i = 0; i < 95; i++) {
+            sizedList.removeLast();
+        }
+        System.out.println("Capacity after 95 removes: " + sizedList.capacity() + ", occupancy: " + sizedList.occupancy());
+        sizedList.trimToSize();
+        System.out.println("Capacity after trimToSize: " + sizedList.capacity());
+
+        System.out.println("\n--- TESTING MyArrayList parallelSort (grain 1) ---");
+        MyArrayList<Integer> parallelList = new MyArrayList<>();
+        int[] unsorted = {7, 3, 9, 1, 3, 8, 2, 6, 5, 4};
+        for (int value : unsorted) {
+            parallelList.add(value);
+        }
+        parallelList.parallelSort(Comparator.naturalOrder(), 4, 1);
+        System.out.println("Sorted: " + Arrays.toString(parallelList.toArray()));
+
         System.out.println("\n--- TESTING MyLinkedList ---");
         MyList<Integer> linkedList = new MyLinkedList<>();
         testList(linkedList);
 
+        System.out.println("\n--- TESTING MyUnrolledLinkedList ---");
+        MyList<Integer> unrolledList = new MyUnrolledLinkedList<>(4);
+        testList(unrolledList);
+
         System.out.println("\n--- TESTING MyStack (based on MyArrayList) ---");
         MyStack<Integer> stack = new MyStack<>(new MyArrayList<>());
         stack.push(10);
@@ -22,6 +116,16 @@ public class ResulTest {
         System.out.println("Stack pop: " + stack.pop());
         System.out.println("Stack after pop: " + stack.peek());
 
+        System.out.println("\n--- TESTING MyConcurrentStack (elimination size 4) ---");
+        MyConcurrentStack<Integer> concurrentStack = new MyConcurrentStack<>(4);
+        concurrentStack.push(10);
+        concurrentStack.push(20);
+        concurrentStack.push(30);
+        System.out.println("Stack size: " + concurrentStack.size());
+        System.out.println("Stack top (peek): " + concurrentStack.peek());
+        System.out.println("Stack pop: " + concurrentStack.pop());
+        System.out.println("Stack after pop: " + concurrentStack.peek());
+
         System.out.println("\n--- TESTING MyQueue (based on MyLinkedList) ---");
         MyQueue<Integer> queue = new MyQueue<>(new MyLinkedList<>());
         queue.enqueue(10);
@@ -43,6 +147,151 @@ public class ResulTest {
         System.out.println("Min element (getMin): " + heap.getMin());
         System.out.println("Extract min: " + heap.extractMin());
         System.out.println("Min after extract: " + heap.getMin());
+
+        System.out.println("\n--- TESTING MyMinHeap bulk construction ---");
+        MyMinHeap<Integer> builtHeap = MyMinHeap.fromArray(new Integer[]{50, 20, 40, 10, 30});
+        System.out.println("Heap size: " + builtHeap.size());
+        System.out.println("Min element (getMin): " + builtHeap.getMin());
+        builtHeap.insertAll(new Integer[]{60, 5, 70});
+        System.out.println("Min after insertAll: " + builtHeap.getMin());
+        System.out.println("Extract min: " + builtHeap.extractMin());
+        System.out.println("Min after extract: " + builtHeap.getMin());
+
+        System.out.println("\n--- TESTING MyTopK (k = 3) ---");
+        MyTopK<Integer> topK = new MyTopK<>(3);
+        for (int value : new int[]{50, 20, 40, 10, 30}) {
+            topK.offer(value);
+        }
+        System.out.println("Threshold: " + topK.threshold());
+        System.out.println("Offer 35 accepted: " + topK.offer(35));
+        System.out.println("Offer 5 accepted: " + topK.offer(5));
+        MyTopK<Integer> otherTopK = new MyTopK<>(3);
+        otherTopK.offer(45);
+        otherTopK.offer(60);
+        topK.merge(otherTopK);
+        System.out.print("Top 3 after merge: ");
+        for (Integer value : topK.toSortedList()) {
+            System.out.print(value + " ");
+        }
+        System.out.println();
+
+        System.out.println("\n--- TESTING MyDaryMinHeap (arity 4) ---");
+        MyDaryMinHeap<Integer> daryHeap = new MyDaryMinHeap<>();
+        daryHeap.insert(50);
+        daryHeap.insert(20);
+        daryHeap.insert(40);
+        daryHeap.insert(10);
+        daryHeap.insert(30);
+        System.out.println("Heap size: " + daryHeap.size());
+        System.out.println("Min element (getMin): " + daryHeap.getMin());
+        System.out.println("Extract min: " + daryHeap.extractMin());
+        System.out.println("Min after extract: " + daryHeap.getMin());
+
+        System.out.println("\n--- TESTING MyPairingHeap ---");
+        MyPairingHeap<Integer> pairingHeap = new MyPairingHeap<>();
+        pairingHeap.insert(50);
+        pairingHeap.insert(20);
+        pairingHeap.insert(40);
+        MyPairingHeap<Integer> otherPairingHeap = new MyPairingHeap<>();
+        otherPairingHeap.insert(10);
+        otherPairingHeap.insert(30);
+        pairingHeap.meld(otherPairingHeap);
+        System.out.println("Heap size after meld: " + pairingHeap.size());
+        System.out.println("Other heap size after meld: " + otherPairingHeap.size());
+        System.out.println("Min element (getMin): " + pairingHeap.getMin());
+        System.out.println("Extract min: " + pairingHeap.extractMin());
+        System.out.println("Min after extract: " + pairingHeap.getMin());
+
+        System.out.println("\n--- TESTING MyIndexedMinHeap ---");
+        MyIndexedMinHeap<Integer> indexedHeap = new MyIndexedMinHeap<>();
+        indexedHeap.insert(50);
+        IMyHeapHandle<Integer> twenty = indexedHeap.insert(20);
+        IMyHeapHandle<Integer> forty = indexedHeap.insert(40);
+        indexedHeap.insert(10);
+        indexedHeap.insert(30);
+        System.out.println("Heap size: " + indexedHeap.size());
+        System.out.println("Min element (getMin): " + indexedHeap.getMin());
+        indexedHeap.decreaseKey(forty, 5);
+        System.out.println("Min after decreaseKey 40 -> 5: " + indexedHeap.getMin());
+        indexedHeap.remove(twenty);
+        System.out.println("Contains 20 after remove: " + indexedHeap.contains(twenty));
+        System.out.println("Extract min: " + indexedHeap.extractMin());
+        System.out.println("Min after extract: " + indexedHeap.getMin());
+
+        System.out.println("\n--- TESTING MyRelaxedMinHeap (1 shard, exact) ---");
+        MyRelaxedMinHeap<Integer> relaxedHeap = new MyRelaxedMinHeap<>(1);
+        relaxedHeap.insert(50);
+        relaxedHeap.insert(20);
+        relaxedHeap.insert(40);
+        relaxedHeap.insert(10);
+        relaxedHeap.insert(30);
+        System.out.println("Heap size: " + relaxedHeap.size());
+        System.out.println("Min element (getMin): " + relaxedHeap.getMin());
+        System.out.println("Extract min: " + relaxedHeap.extractMin());
+        System.out.println("Min after extract: " + relaxedHeap.getMin());
+
+        System.out.println("\n--- TESTING MyConcurrentMinHeap ---");
+        MyConcurrentMinHeap<Integer> concurrentHeap = new MyConcurrentMinHeap<>();
+        concurrentHeap.insert(50);
+        concurrentHeap.insert(20);
+        concurrentHeap.insert(40);
+        concurrentHeap.insert(10);
+        concurrentHeap.insert(30);
+        System.out.println("Heap size: " + concurrentHeap.size());
+        System.out.println("Min element (getMin): " + concurrentHeap.getMin());
+        System.out.println("Extract min: " + concurrentHeap.extractMin());
+        System.out.println("Min after extract: " + concurrentHeap.getMin());
+
+        System.out.println("\n--- TESTING primitive structures ---");
+        MyIntArrayList intList = new MyIntArrayList();
+        intList.addInt(30);
+        intList.addInt(10);
+        intList.addFirstInt(20);
+        intList.sort();
+        System.out.println("MyIntArrayList after sorting: " + intList.getInt(0) + " " + intList.getInt(1) + " " + intList.getInt(2));
+        MyIntStack intStack = new MyIntStack();
+        intStack.pushInt(10);
+        intStack.pushInt(20);
+        System.out.println("MyIntStack pop: " + intStack.popInt());
+        MyDoubleQueue doubleQueue = new MyDoubleQueue();
+        doubleQueue.enqueueDouble(1.5);
+        doubleQueue.enqueueDouble(2.5);
+        System.out.println("MyDoubleQueue dequeue: " + doubleQueue.dequeueDouble());
+        MyLongMinHeap longHeap = new MyLongMinHeap();
+        longHeap.insertLong(50L);
+        longHeap.insertLong(20L);
+        longHeap.insertLong(40L);
+        System.out.println("MyLongMinHeap extract min: " + longHeap.extractMinLong());
+        System.out.println("MyLongMinHeap min after extract: " + longHeap.getMinLong());
+
+        System.out.println("\n--- TESTING MySpscQueue (capacity 4) ---");
+        MySpscQueue<Integer> spscQueue = new MySpscQueue<>(4);
+        for (int i = 1; i <= 5; i++) {
+            System.out.println("Enqueue " + (i * 10) + ": " + spscQueue.enqueue(i * 10));
+        }
+        System.out.println("Queue size: " + spscQueue.size());
+        System.out.println("Queue front (peek): " + spscQueue.peek());
+        System.out.println("Queue dequeue: " + spscQueue.dequeue());
+        System.out.println("Queue after dequeue: " + spscQueue.peek());
+
+        System.out.println("\n--- TESTING MyConcurrentLinkedQueue ---");
+        MyConcurrentLinkedQueue<Integer> linkedQueue = new MyConcurrentLinkedQueue<>();
+        linkedQueue.enqueue(10);
+        linkedQueue.enqueue(20);
+        linkedQueue.enqueue(30);
+        System.out.println("Queue size: " + linkedQueue.size());
+        System.out.println("Queue front (peek): " + linkedQueue.peek());
+        System.out.println("Queue dequeue: " + linkedQueue.dequeue());
+        System.out.println("Queue after dequeue: " + linkedQueue.peek());
+
+        System.out.println("\n--- TESTING MyConcurrentArrayQueue (capacity 2) ---");
+        MyConcurrentArrayQueue<Integer> arrayQueue = new MyConcurrentArrayQueue<>(2);
+        System.out.println("Enqueue 10: " + arrayQueue.enqueue(10));
+        System.out.println("Enqueue 20: " + arrayQueue.enqueue(20));
+        System.out.println("Enqueue 30: " + arrayQueue.enqueue(30));
+        System.out.println("Queue size: " + arrayQueue.size());
+        System.out.println("Queue dequeue: " + arrayQueue.dequeue());
+        System.out.println("Queue after dequeue: " + arrayQueue.peek());
     }
 
     // Helper function to test MyList
@@ -88,6 +337,18 @@ public class ResulTest {
         System.out.println("Last index of 10: " + list.lastIndexOf(10));
         System.out.println("Does 20 exist? " + list.exists(20));
 
+        list.addAll(2, new Integer[]{1, 2, 3});
+        System.out.println("After addAll at index 2: " + arrayToString(list.toArray()));
+        list.addAll(list);
+        System.out.println("After addAll of itself: " + arrayToString(list.toArray()));
+        list.removeRange(1, 6);
+        System.out.println("After removeRange(1, 6): " + arrayToString(list.toArray()));
+        list.removeIf(x -> x < 20);
+        System.out.println("After removeIf(< 20): " + arrayToString(list.toArray()));
+        Integer[] copy = new Integer[list.size()];
+        list.copyInto(copy);
+        System.out.println("copyInto: " + arrayToString(copy));
+
         list.clear();
         System.out.println("After clear: " + arrayToString(list.toArray()));
         System.out.println("Size of the list: " + list.size());
@@ -0,0 +1,12 @@
+package interfaces;
+
+/**
+ * A min-heap of primitive double values.
+ */
+public interface IMyDoubleMinHeap {
+    boolean empty();
+    int size();
+    double getMinDouble();
+    double extractMinDouble();
+    void insertDouble(double newItem);
+}
\ No newline at end of file
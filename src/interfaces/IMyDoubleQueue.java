@@ -0,0 +1,12 @@
+package interfaces;
+
+/**
+ * A queue of primitive double values.
+ */
+public interface IMyDoubleQueue {
+    boolean empty();
+    int size();
+    double peekDouble();
+    double enqueueDouble(double newItem);
+    double dequeueDouble();
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package interfaces;
+
+/**
+ * A stack of primitive double values.
+ */
+public interface IMyDoubleStack {
+    boolean empty();
+    int size();
+    double peekDouble();
+    double pushDouble(double newItem);
+    double popDouble();
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package interfaces;
+
+public interface IMyHeapHandle<T> {
+    T get();
+}
@@ -0,0 +1,13 @@
+package interfaces;
+
+public interface IMyIndexedMinHeap<T> {
+    boolean empty();
+    int size();
+    T getMin();
+    T extractMin();
+    IMyHeapHandle<T> insert(T newItem);
+    void decreaseKey(IMyHeapHandle<T> handle, T newKey);
+    void increaseKey(IMyHeapHandle<T> handle, T newKey);
+    void remove(IMyHeapHandle<T> handle);
+    boolean contains(IMyHeapHandle<T> handle);
+}
@@ -0,0 +1,12 @@
+package interfaces;
+
+/**
+ * A min-heap of primitive int values.
+ */
+public interface IMyIntMinHeap {
+    boolean empty();
+    int size();
+    int getMinInt();
+    int extractMinInt();
+    void insertInt(int newItem);
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package interfaces;
+
+/**
+ * A queue of primitive int values.
+ */
+public interface IMyIntQueue {
+    boolean empty();
+    int size();
+    int peekInt();
+    int enqueueInt(int newItem);
+    int dequeueInt();
+}
\ No newline at end of file
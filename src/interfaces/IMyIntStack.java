@@ -0,0 +1,12 @@
+package interfaces;
+
+/**
+ * A stack of primitive int values.
+ */
+public interface IMyIntStack {
+    boolean empty();
+    int size();
+    int peekInt();
+    int pushInt(int newItem);
+    int popInt();
+}
\ No newline at end of file
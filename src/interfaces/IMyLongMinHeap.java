@@ -0,0 +1,12 @@
+package interfaces;
+
+/**
+ * A min-heap of primitive long values.
+ */
+public interface IMyLongMinHeap {
+    boolean empty();
+    int size();
+    long getMinLong();
+    long extractMinLong();
+    void insertLong(long newItem);
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package interfaces;
+
+/**
+ * A queue of primitive long values.
+ */
+public interface IMyLongQueue {
+    boolean empty();
+    int size();
+    long peekLong();
+    long enqueueLong(long newItem);
+    long dequeueLong();
+}
\ No newline at end of file
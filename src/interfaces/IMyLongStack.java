@@ -0,0 +1,12 @@
+package interfaces;
+
+/**
+ * A stack of primitive long values.
+ */
+public interface IMyLongStack {
+    boolean empty();
+    int size();
+    long peekLong();
+    long pushLong(long newItem);
+    long popLong();
+}
\ No newline at end of file
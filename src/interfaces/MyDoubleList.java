@@ -0,0 +1,26 @@
+package interfaces;
+
+/**
+ * A list of primitive double values.
+ * Same operations as MyList, but values are passed and returned as double, so nothing is boxed.
+ */
+public interface MyDoubleList {
+    void addDouble(double element);
+    void setDouble(int index, double element);
+    void addDouble(int index, double element);
+    void addFirstDouble(double element);
+    void addLastDouble(double element);
+    double getDouble(int index);
+    double getFirstDouble();
+    double getLastDouble();
+    void remove(int index);
+    void removeLast();
+    void removeFirst();
+    void sort();
+    int indexOfDouble(double value);
+    int lastIndexOfDouble(double value);
+    boolean existsDouble(double value);
+    double[] toDoubleArray();
+    void clear();
+    int size();
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package interfaces;
+
+/**
+ * A list of primitive int values.
+ * Same operations as MyList, but values are passed and returned as int, so nothing is boxed.
+ */
+public interface MyIntList {
+    void addInt(int element);
+    void setInt(int index, int element);
+    void addInt(int index, int element);
+    void addFirstInt(int element);
+    void addLastInt(int element);
+    int getInt(int index);
+    int getFirstInt();
+    int getLastInt();
+    void remove(int index);
+    void removeLast();
+    void removeFirst();
+    void sort();
+    int indexOfInt(int value);
+    int lastIndexOfInt(int value);
+    boolean existsInt(int value);
+    int[] toIntArray();
+    void clear();
+    int size();
+}
\ No newline at end of file
@@ -1,6 +1,12 @@
 package interfaces;
 
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface MyList<T> extends Iterable<T> {
     void add(T element);
@@ -21,4 +27,92 @@ public interface MyList<T> extends Iterable<T> {
     public Object[] toArray();
     void clear();
     int size();
+
+    default void addAll(MyList<T> other) {
+        int count = other.size();  // Fixed up front, so other may be this list
+        for (int i = 0; i < count; i++) {
+            add(other.get(i));
+        }
+    }
+
+    default void addAll(int index, T[] items) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + " out of bounds. Size: " + size());
+        }
+        for (T item : items) {
+            if (index == size()) {
+                add(item);
+            } else {
+                add(index, item);
+            }
+            index++;
+        }
+    }
+
+    default void removeRange(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + ") out of bounds. Size: " + size());
+        }
+        for (int i = to - 1; i >= from; i--) {
+            remove(i);
+        }
+    }
+
+    default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        int i = 0;
+        while (i < size()) {
+            if (filter.test(get(i))) {
+                remove(i);
+                removed = true;
+            } else {
+                i++;
+            }
+        }
+        return removed;
+    }
+
+    default void copyInto(T[] target) {
+        int size = size();
+        if (target.length < size) {
+            throw new IndexOutOfBoundsException("Array length: " + target.length + " is less than size: " + size);
+        }
+        for (int i = 0; i < size; i++) {
+            target[i] = get(i);
+        }
+    }
+
+    default void forEachRange(int from, int to, Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + ") out of bounds. Size: " + size());
+        }
+        int index = 0;
+        for (T item : this) {
+            if (index >= to) {
+                break;
+            }
+            if (index >= from) {
+                action.accept(item);
+            }
+            index++;
+        }
+    }
+
+    default void forEachIndexed(ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int index = 0;
+        for (T item : this) {
+            action.accept(item, index++);
+        }
+    }
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
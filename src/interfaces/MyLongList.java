@@ -0,0 +1,26 @@
+package interfaces;
+
+/**
+ * A list of primitive long values.
+ * Same operations as MyList, but values are passed and returned as long, so nothing is boxed.
+ */
+public interface MyLongList {
+    void addLong(long element);
+    void setLong(int index, long element);
+    void addLong(int index, long element);
+    void addFirstLong(long element);
+    void addLastLong(long element);
+    long getLong(int index);
+    long getFirstLong();
+    long getLastLong();
+    void remove(int index);
+    void removeLast();
+    void removeFirst();
+    void sort();
+    int indexOfLong(long value);
+    int lastIndexOfLong(long value);
+    boolean existsLong(long value);
+    long[] toLongArray();
+    void clear();
+    int size();
+}
\ No newline at end of file